@@ -0,0 +1,62 @@
+package Benchmarks;
+
+import Model.Game.Objects.Card;
+import Model.Game.Objects.Deck;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark del sabot: mescolamento completo e pescata di una carta.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    @Param({"1", "2", "6", "8"})
+    public int deckCount;
+
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck(deckCount, Deck.DEFAULT_PENETRATION, new SplittableRandom(42));
+    }
+
+    /**
+     * Mescolamento dell'intero sabot.
+     */
+    @Benchmark
+    public int shuffle() {
+        deck.shuffle();
+        return deck.remaining();
+    }
+
+    /**
+     * Pescata di una carta, con rimescolamento alla carta di taglio come tra un round e l'altro.
+     */
+    @Benchmark
+    public Card drawCard() {
+        if (deck.needsShuffle())
+            deck.shuffle();
+        return deck.drawCard();
+    }
+}
@@ -0,0 +1,75 @@
+package Benchmarks;
+
+import Model.Game.DispatchingEventBus;
+import Model.Game.EventBus;
+import Model.Game.GameEvent;
+import Model.Game.GameEventType;
+import Model.Game.Objects.Card;
+import Model.Players.Player;
+import Model.Players.PlayerFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark degli eventi di gioco: creazione dell'evento di carta distribuita,
+ * l'evento più frequente di un round, e sua pubblicazione sui bus.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEventBenchmark {
+    private Player player;
+    private Card card;
+    private EventBus syncBus;
+    private int received;
+
+    @Setup
+    public void setUp() {
+        player = PlayerFactory.createHumanPlayer("Benchmark", 1000);
+        card = Card.ofOrdinal(0);
+        syncBus = new DispatchingEventBus();
+        syncBus.subscribe(GameEventType.CARD_DEALT, event -> received++);
+    }
+
+    /**
+     * Creazione di un evento di carta distribuita.
+     */
+    @Benchmark
+    public void create(Blackhole blackhole) {
+        blackhole.consume(new GameEvent.CardDealt(player, 0, card, false, 12));
+    }
+
+    /**
+     * Creazione e pubblicazione su un bus sincrono con un ascoltatore.
+     */
+    @Benchmark
+    public int publishSync() {
+        syncBus.publish(new GameEvent.CardDealt(player, 0, card, false, 12));
+        return received;
+    }
+
+    /**
+     * Creazione e pubblicazione sul bus che scarta gli eventi.
+     */
+    @Benchmark
+    public void publishNoOp() {
+        EventBus.NO_OP.publish(new GameEvent.CardDealt(player, 0, card, false, 12));
+    }
+}
@@ -0,0 +1,80 @@
+package Benchmarks;
+
+import Model.Game.Objects.Card;
+import Model.Game.Objects.Hand;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark della mano: calcolo del valore su mani già formate
+ * e costruzione di una mano carta per carta.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark {
+    private static final int HANDS = 1024;
+
+    private Hand[] hands;
+    private Card[] cards;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        hands = new Hand[HANDS];
+        cards = new Card[HANDS * 4];
+        for (int i = 0; i < cards.length; i++)
+            cards[i] = Card.ofOrdinal(random.nextInt(Card.COUNT));
+
+        for (int i = 0; i < HANDS; i++) {
+            hands[i] = new Hand(10);
+            int size = 2 + random.nextInt(3);
+            for (int j = 0; j < size; j++)
+                hands[i].addCard(cards[i * 4 + j]);
+        }
+    }
+
+    /**
+     * Valore, sballo e blackjack di mille mani già formate.
+     */
+    @Benchmark
+    public void getValue(Blackhole blackhole) {
+        for (Hand hand : hands) {
+            blackhole.consume(hand.getValue());
+            blackhole.consume(hand.isBusted());
+            blackhole.consume(hand.isBlackjack());
+        }
+    }
+
+    /**
+     * Costruzione di una mano di quattro carte con il valore letto dopo ogni carta.
+     */
+    @Benchmark
+    public int addCardAndValue() {
+        Hand hand = new Hand(10);
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            hand.addCard(cards[i]);
+            value += hand.getValue();
+        }
+        return value;
+    }
+}
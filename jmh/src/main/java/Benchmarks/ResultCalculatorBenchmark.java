@@ -0,0 +1,75 @@
+package Benchmarks;
+
+import Model.Game.BankManager;
+import Model.Game.ResultCalculator;
+import Model.Game.Objects.Card;
+import Model.Players.Dealer;
+import Model.Players.Player;
+import Model.Players.PlayerFactory;
+import Model.Players.StrategyPlay.BasicStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark della liquidazione di fine round per un tavolo completo
+ * (giocatore umano, tre giocatori AI e dealer).
+ * Le mani hanno puntata nulla, così che la liquidazione ripetuta non alteri i saldi tra un'invocazione e l'altra.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultCalculatorBenchmark {
+    private ResultCalculator resultCalculator;
+    private Player humanPlayer;
+    private List<Player> players;
+    private Dealer dealer;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        resultCalculator = new ResultCalculator(new BankManager());
+        humanPlayer = PlayerFactory.createHumanPlayer("Benchmark", 1000);
+        dealer = PlayerFactory.createDealer();
+        players = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            players.add(PlayerFactory.createAIPlayer("AI_Player_" + (i + 1), new BasicStrategy()));
+
+        dealCards(humanPlayer, random);
+        for (Player player : players)
+            dealCards(player, random);
+        dealCards(dealer, random);
+    }
+
+    private static void dealCards(Player player, SplittableRandom random) {
+        player.addCard(Card.ofOrdinal(random.nextInt(Card.COUNT)));
+        player.addCard(Card.ofOrdinal(random.nextInt(Card.COUNT)));
+    }
+
+    /**
+     * Liquidazione di tutte le mani al tavolo e statistiche del giocatore umano.
+     */
+    @Benchmark
+    public Map<String, Integer> calculateResults() {
+        return resultCalculator.calculateResults(humanPlayer, players, dealer);
+    }
+}
@@ -0,0 +1,88 @@
+package Benchmarks;
+
+import Model.Game.Objects.Card;
+import Model.Game.Objects.Hand;
+import Model.Players.StrategyPlay.AggressiveStrategy;
+import Model.Players.StrategyPlay.BalancedStrategy;
+import Model.Players.StrategyPlay.BasicStrategy;
+import Model.Players.StrategyPlay.ConservativeStrategy;
+import Model.Players.StrategyPlay.PlayerStrategy;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark delle strategie dei giocatori AI: una decisione completa
+ * ({@link PlayerStrategy#decide}) per ciascuna di mille coppie mano / carta del dealer.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+    private static final int HANDS = 1024;
+
+    @Param({"aggressive", "balanced", "conservative", "basic"})
+    public String strategyName;
+
+    private PlayerStrategy strategy;
+    private Hand[] hands;
+    private Card[] dealerCards;
+
+    @Setup
+    public void setUp() {
+        switch (strategyName) {
+            case "aggressive": strategy = new AggressiveStrategy(); break;
+            case "balanced": strategy = new BalancedStrategy(); break;
+            case "conservative": strategy = new ConservativeStrategy(); break;
+            default: strategy = new BasicStrategy(); break;
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        hands = new Hand[HANDS];
+        dealerCards = new Card[HANDS];
+        for (int i = 0; i < HANDS; i++) {
+            hands[i] = new Hand(10);
+            hands[i].addCard(Card.ofOrdinal(random.nextInt(Card.COUNT)));
+            hands[i].addCard(Card.ofOrdinal(random.nextInt(Card.COUNT)));
+            dealerCards[i] = Card.ofOrdinal(random.nextInt(Card.COUNT));
+        }
+    }
+
+    /**
+     * Decisione su mani di due carte, con split e double down consentiti quando possibili.
+     */
+    @Benchmark
+    public void decide(Blackhole blackhole) {
+        for (int i = 0; i < HANDS; i++) {
+            Hand hand = hands[i];
+            blackhole.consume(strategy.decide(hand, dealerCards[i], hand.canSplit(), true, false));
+        }
+    }
+
+    /**
+     * Sola decisione di pescata sul valore della mano.
+     */
+    @Benchmark
+    public void shouldDraw(Blackhole blackhole) {
+        for (Hand hand : hands)
+            blackhole.consume(strategy.shouldDraw(hand.getValue()));
+    }
+}
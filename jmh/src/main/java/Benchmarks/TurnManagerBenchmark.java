@@ -0,0 +1,64 @@
+package Benchmarks;
+
+import Model.Game.EventBus;
+import Model.Game.GameModel;
+import Model.Game.GameState;
+import Model.Players.Player;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark di un round completo del TurnManager su un tavolo senza interfaccia:
+ * puntate, distribuzione, Stand del giocatore umano, turni AI, turno del dealer e liquidazione.
+ * Gli eventi vengono pubblicati sul bus {@link EventBus#NO_OP}.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnManagerBenchmark {
+    private static final int BALANCE = 1_000_000;
+    private static final int BET = 10;
+
+    @Param({"1", "3"})
+    public int aiPlayers;
+
+    private GameModel model;
+
+    @Setup
+    public void setUp() {
+        model = new GameModel("Benchmark", BALANCE, aiPlayers, EventBus.NO_OP);
+    }
+
+    /**
+     * Un round completo in cui il giocatore umano sta sulla prima mano.
+     */
+    @Benchmark
+    public GameState round() {
+        model.getHumanPlayer().setBalance(BALANCE);
+        for (Player player : model.getPlayers())
+            player.setBalance(BALANCE);
+
+        model.getHumanPlayer().placeBet(BET, 0);
+        model.startRound(BET);
+        while (model.getGameState() == GameState.PLAYER_TURN)
+            model.playerStand();
+        return model.getGameState();
+    }
+}
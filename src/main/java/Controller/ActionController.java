@@ -3,11 +3,9 @@ package Controller;
 import Model.Game.GameEvent;
 import Model.Game.GameModel;
 import Model.Game.GameState;
-import Model.Game.Objects.Card;
 import Model.Players.AIPlayer;
 import Model.Players.Player;
 import View.BlackJackView;
-import java.util.Map;
 
 /**
  * Controller che gestisce le azioni di gioco del giocatore nel BlackJack.
@@ -21,16 +19,19 @@ import java.util.Map;
 public class ActionController implements BlackjackActionListener {
     protected final GameModel model;
     protected final BlackJackView view;
+    private final FxEventBatcher eventBatcher;
 
     /**
      * Costruisce un nuovo ActionController.
      * 
      * @param model Il modello del gioco
      * @param view La vista principale del gioco
+     * @param eventBatcher Il batcher che consegna alla vista gli eventi prodotti da ogni azione
      */
-    public ActionController(GameModel model, BlackJackView view) {
+    public ActionController(GameModel model, BlackJackView view, FxEventBatcher eventBatcher) {
         this.model = model;
         this.view = view;
+        this.eventBatcher = eventBatcher;
     }
 
     /**
@@ -48,8 +49,8 @@ public class ActionController implements BlackjackActionListener {
      */
     public void handleEvent(GameEvent event) {
         switch (event.getType()) {
-            case CARD_DEALT, PLAYER_HIT:
-                handleCardDealtEvent(event);
+            case CARD_DEALT:
+                handleCardDealtEvent((GameEvent.CardDealt) event);
                 updatePlayerControls();
                 break;
 
@@ -58,21 +59,25 @@ public class ActionController implements BlackjackActionListener {
                 break;
 
             case PLAYER_BUSTED:
-                handlePlayerBustedEvent(event);
+                handlePlayerBustedEvent((GameEvent.PlayerBusted) event);
                 break;
 
             case HAND_SPLIT:
-                handleSplitEvent(event);
+                handleSplitEvent((GameEvent.HandSplit) event);
                 updatePlayerControls();
                 break;
 
             case DOUBLE_DOWN_EXECUTED:
-                handleDoubleDownEvent(event);
+                handleDoubleDownEvent((GameEvent.DoubleDown) event);
                 updatePlayerControls();
                 break;
             case BLACKJACK_ACHIEVED:
-                handleBlackjackEvent(event);
+                handleBlackjackEvent((GameEvent.BlackjackAchieved) event);
                 updatePlayerControls();
+                break;
+
+            default:
+                break;
         }
     }
 
@@ -81,10 +86,9 @@ public class ActionController implements BlackjackActionListener {
      * 
      * @param event L'evento contenente i dati del BlackJack
      */
-    private void handleBlackjackEvent(GameEvent event) {
-        Map<String, Object> data = event.getData();
-        Player player = (Player) data.get("player");
-        int handIndex = (int) data.get("handIndex");
+    private void handleBlackjackEvent(GameEvent.BlackjackAchieved event) {
+        Player player = event.player();
+        int handIndex = event.handIndex();
 
         if (player == model.getHumanPlayer()) {
             view.getPlayerHands().showBlackjack(handIndex);
@@ -103,24 +107,19 @@ public class ActionController implements BlackjackActionListener {
      * 
      * @param event L'evento contenente i dati della carta distribuita
      */
-    private void handleCardDealtEvent(GameEvent event) {
-        Map<String, Object> data = event.getData();
-        Player player = (Player) data.get("player");
-        Card card = (Card) data.get("card");
+    private void handleCardDealtEvent(GameEvent.CardDealt event) {
+        Player player = event.player();
 
         if (player.equals(model.getHumanPlayer())) {
-            int handIndex = (int) data.get("handIndex");
-            view.getPlayerHands().animateCardDealt(handIndex, card, player.getHandValue(handIndex));
+            view.getPlayerHands().animateCardDealt(event.handIndex(), event.card(), event.handValue());
 
         } else if (player.equals(model.getDealer())) {
-            boolean isHiddenCard = (boolean) data.get("isHiddenCard");
-            view.getDealerView().animateCardDealt(card, isHiddenCard, player.getHandValue(0));
+            view.getDealerView().animateCardDealt(event.card(), event.hidden(), event.handValue());
 
         } else {
-            int handIndex = (int) data.get("handIndex");
             int playerIndex = model.getPlayers().indexOf(player);
             if (playerIndex >= 0 && playerIndex < view.getAIPlayerViews().size()) {
-                view.getAIPlayerViews().get(playerIndex).animateCardDealt(handIndex, card, player.getHandValue(handIndex));
+                view.getAIPlayerViews().get(playerIndex).animateCardDealt(event.handIndex(), event.card(), event.handValue());
             }
         }
         AudioQueue.queue(AudioManager.SoundEffect.CARD_DEAL);
@@ -131,10 +130,9 @@ public class ActionController implements BlackjackActionListener {
      * 
      * @param event L'evento contenente i dati del giocatore che ha sballato
      */
-    private void handlePlayerBustedEvent(GameEvent event) {
-        Map<String, Object> data = event.getData();
-        Player player = (Player) data.get("player");
-        int handIndex = (int) data.get("handIndex");
+    private void handlePlayerBustedEvent(GameEvent.PlayerBusted event) {
+        Player player = event.player();
+        int handIndex = event.handIndex();
 
         if (player.equals(model.getHumanPlayer())) {
             view.getPlayerHands().showBusted(handIndex);
@@ -152,20 +150,18 @@ public class ActionController implements BlackjackActionListener {
      * 
      * @param event L'evento contenente i dati del double down
      */
-    private void handleDoubleDownEvent(GameEvent event) {
-        Map<String, Object> data = event.getData();
-        int currentHandIndex = (int) data.get("currentHandIndex");
-        Player player = (Player) data.get("player");
-        int newBet = (int) data.get("newBet");
+    private void handleDoubleDownEvent(GameEvent.DoubleDown event) {
+        int currentHandIndex = event.handIndex();
+        Player player = event.player();
+        int newBet = event.newBet();
         if (player instanceof AIPlayer) {
             int playerIndex = model.getPlayers().indexOf(player);
             view.getAIPlayerViews().get(playerIndex).updateBet(newBet, currentHandIndex);
         }
         else {
-            int currentBet = (int) data.get("currentBet");
             view.getPlayerHands().updateBet(newBet, currentHandIndex);
-            view.getPlayerView().updateCurrentBet(currentBet);
-            view.getPlayerView().updateBalance(model.getHumanPlayer().getBalance());
+            view.getPlayerView().updateCurrentBet(event.currentBet());
+            view.getPlayerView().updateBalance(event.balance());
         }
         AudioQueue.queue(AudioManager.SoundEffect.DOUBLE_DOWN);
     }
@@ -175,21 +171,18 @@ public class ActionController implements BlackjackActionListener {
      * 
      * @param event L'evento contenente i dati dello split
      */
-    private void handleSplitEvent(GameEvent event) {
-        Player player = (Player) event.getData().get("player");
-        Card newCard1 = (Card) event.getData().get("newCard1");
-        Card newCard2 = (Card) event.getData().get("newCard2");
-        int bet = (int) event.getData().get("bet");
-        int handValue1 = (int) event.getData().get("handValue1");
-        int handValue2 = (int) event.getData().get("handValue2");
+    private void handleSplitEvent(GameEvent.HandSplit event) {
+        Player player = event.player();
         if (player instanceof AIPlayer) {
             int playerIndex = model.getPlayers().indexOf(player);
-            view.getAIPlayerViews().get(playerIndex).animateSplitHands(newCard1, newCard2, handValue1, handValue2, bet);
+            view.getAIPlayerViews().get(playerIndex).animateSplitHands(event.newCard1(), event.newCard2(),
+                    event.handValue1(), event.handValue2(), event.bet());
         }
         else {
-            view.getPlayerHands().animateSplitHands(newCard1, newCard2, handValue1, handValue2, bet);
-            view.getPlayerView().updateBalance(player.getBalance());
-            view.getPlayerView().updateCurrentBet(player.getCurrentBet());
+            view.getPlayerHands().animateSplitHands(event.newCard1(), event.newCard2(),
+                    event.handValue1(), event.handValue2(), event.bet());
+            view.getPlayerView().updateBalance(event.balance());
+            view.getPlayerView().updateCurrentBet(event.currentBet());
         }
         AudioQueue.queue(AudioManager.SoundEffect.SPLIT);
         AudioQueue.queue(AudioManager.SoundEffect.CARD_DEAL);
@@ -223,6 +216,7 @@ public class ActionController implements BlackjackActionListener {
     public void onHitButtonPressed() {
         AudioManager.getInstance().playSound(AudioManager.SoundEffect.BUTTON_CLICK);
         model.playerHit();
+        eventBatcher.flush();
     }
 
     /**
@@ -232,6 +226,7 @@ public class ActionController implements BlackjackActionListener {
     public void onStandButtonPressed() {
         AudioManager.getInstance().playSound(AudioManager.SoundEffect.BUTTON_CLICK);
         model.playerStand();
+        eventBatcher.flush();
     }
 
     /**
@@ -241,6 +236,7 @@ public class ActionController implements BlackjackActionListener {
     public void onDoubleDownPressed() {
         AudioManager.getInstance().playSound(AudioManager.SoundEffect.BUTTON_CLICK);
         model.doubleDown();
+        eventBatcher.flush();
     }
 
     /**
@@ -250,5 +246,6 @@ public class ActionController implements BlackjackActionListener {
     public void onSplitButtonPressed() {
         AudioManager.getInstance().playSound(AudioManager.SoundEffect.BUTTON_CLICK);
         model.splitHand();
+        eventBatcher.flush();
     }
 }
@@ -1,10 +1,15 @@
 package Controller;
 
+import Utility.LoggerUtility;
 import java.io.BufferedInputStream;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
@@ -14,75 +19,219 @@ import javax.sound.sampled.UnsupportedAudioFileException;
 /**
  * Gestisce la riproduzione degli effetti sonori nel gioco.
  * Implementata come singleton.
+ * <p>
+ * Ogni effetto viene letto dal classpath e decodificato una sola volta, alla creazione dell'istanza.
+ * Le linee {@link Clip} vengono aperte al primo utilizzo e riutilizzate: ogni effetto ha un piccolo pool
+ * di clip, al massimo {@link #getPolyphony()}, così che lo stesso effetto possa sovrapporsi a sé stesso
+ * senza che il numero di linee native aperte cresca durante la sessione. Se tutte le clip di un effetto
+ * sono occupate viene riavviata quella in riproduzione da più tempo.
  */
 public class AudioManager {
+	/** Numero massimo di riproduzioni contemporanee dello stesso effetto usato di default. */
+	public static final int DEFAULT_POLYPHONY = 4;
+	private static final LoggerUtility logger = new LoggerUtility();
 	private static AudioManager instance;
 
+	private final Map<SoundEffect, ClipPool> pools;
+	private int polyphony;
+
 	/**
 	 * Enumerazione degli effetti sonori disponibili.
 	 */
 	public enum SoundEffect {
-		MENU_MUSIC("src/main/resources/sounds/MenuMusic.wav"),
-		BUTTON_CLICK("src/main/resources/sounds/click.wav"),
-		CARD_DEAL("src/main/resources/sounds/card_deal.wav"),
-		CHIP_PLACE("src/main/resources/sounds/chip_place.wav"),
-		CHIP_STACK("src/main/resources/sounds/chip_stack.wav"),
-		SHUFFLE("src/main/resources/sounds/shuffle.wav"),
-		WIN("src/main/resources/sounds/win.wav"),
-		LOSE("src/main/resources/sounds/lose.wav"),
-		BLACKJACK("src/main/resources/sounds/blackjack.wav"),
-		SPLIT("src/main/resources/sounds/split.wav"),
-		DOUBLE_DOWN("src/main/resources/sounds/double_down.wav");
-
-		private final String filePath;
-
-		SoundEffect(String filePath) {
-			this.filePath = filePath;
+		MENU_MUSIC("/sounds/MenuMusic.wav"),
+		BUTTON_CLICK("/sounds/click.wav"),
+		CARD_DEAL("/sounds/card_deal.wav"),
+		CHIP_PLACE("/sounds/chip_place.wav"),
+		CHIP_STACK("/sounds/chip_stack.wav"),
+		SHUFFLE("/sounds/shuffle.wav"),
+		WIN("/sounds/win.wav"),
+		LOSE("/sounds/lose.wav"),
+		BLACKJACK("/sounds/blackjack.wav"),
+		SPLIT("/sounds/split.wav"),
+		DOUBLE_DOWN("/sounds/double_down.wav");
+
+		private final String resourcePath;
+
+		SoundEffect(String resourcePath) {
+			this.resourcePath = resourcePath;
 		}
 
-		public String getFilePath() {
-			return filePath;
+		/**
+		 * Restituisce il percorso dell'effetto nel classpath.
+		 *
+		 * @return Il percorso della risorsa audio
+		 */
+		public String getResourcePath() {
+			return resourcePath;
+		}
+	}
+
+	/**
+	 * Costruisce il gestore decodificando tutti gli effetti sonori.
+	 */
+	private AudioManager() {
+		this.pools = new EnumMap<>(SoundEffect.class);
+		this.polyphony = DEFAULT_POLYPHONY;
+		for (SoundEffect effect : SoundEffect.values()) {
+			ClipPool pool = decode(effect);
+			if (pool != null)
+				pools.put(effect, pool);
 		}
 	}
 
 	/**
 	 * Ottiene l'istanza singleton dell'AudioManager.
+	 * La prima chiamata decodifica tutti gli effetti sonori.
 	 *
 	 * @return L'istanza singleton di AudioManager per la gestione degli effetti audio
 	 */
-	public static AudioManager getInstance() {
+	public static synchronized AudioManager getInstance() {
 		if (instance == null)
 			instance = new AudioManager();
 		return instance;
 	}
 
 	/**
-	 * Riproduce un file audio dal percorso specificato.
+	 * Legge e decodifica un effetto sonoro dal classpath.
 	 *
-	 * @param filename Il percorso del file audio
+	 * @param effect L'effetto da decodificare
+	 * @return Il pool dell'effetto, o null se l'effetto non è disponibile
 	 */
-	private void play(String filename) {
-		try {
-			InputStream in = new BufferedInputStream(new FileInputStream(filename));
-			AudioInputStream audioIn = AudioSystem.getAudioInputStream(in);
-			Clip clip = AudioSystem.getClip();
-			clip.open(audioIn);
-			clip.start();
-		} catch (FileNotFoundException e1) {
-			System.err.println("File audio non trovato: " + filename);
-			e1.printStackTrace();
-		} catch (IOException | UnsupportedAudioFileException | LineUnavailableException e1) {
-			System.err.println("Errore durante la riproduzione dell'audio: " + filename);
-			e1.printStackTrace();
+	private static ClipPool decode(SoundEffect effect) {
+		InputStream resource = AudioManager.class.getResourceAsStream(effect.getResourcePath());
+		if (resource == null) {
+			logger.logWarning("File audio non trovato: " + effect.getResourcePath());
+			return null;
+		}
+
+		try (AudioInputStream audioIn = AudioSystem.getAudioInputStream(new BufferedInputStream(resource))) {
+			return new ClipPool(audioIn.getFormat(), audioIn.readAllBytes());
+		} catch (IOException | UnsupportedAudioFileException e) {
+			logger.logError("Errore durante la decodifica dell'audio: " + effect.getResourcePath(), e);
+			return null;
 		}
 	}
 
 	/**
 	 * Riproduce un effetto sonoro predefinito.
+	 * Se il sistema non può aprire una linea audio per l'effetto, l'errore viene registrato
+	 * una sola volta e l'effetto non viene più riprodotto.
 	 *
 	 * @param effect L'effetto sonoro da riprodurre
 	 */
-	public void playSound(SoundEffect effect) {
-		play(effect.getFilePath());
+	public synchronized void playSound(SoundEffect effect) {
+		ClipPool pool = pools.get(effect);
+		if (pool == null)
+			return;
+
+		try {
+			pool.play(polyphony);
+		} catch (LineUnavailableException | IllegalArgumentException e) {
+			logger.logError("Errore durante la riproduzione dell'audio: " + effect.getResourcePath(), e);
+			pool.trim(0);
+			pools.remove(effect);
+		}
+	}
+
+	/**
+	 * Restituisce il numero massimo di riproduzioni contemporanee dello stesso effetto.
+	 *
+	 * @return Il limite di polifonia per effetto
+	 */
+	public synchronized int getPolyphony() {
+		return polyphony;
+	}
+
+	/**
+	 * Imposta il numero massimo di riproduzioni contemporanee dello stesso effetto.
+	 * Le clip oltre il nuovo limite vengono chiuse.
+	 *
+	 * @param polyphony Il limite di polifonia per effetto
+	 * @throws IllegalArgumentException Se il limite non è positivo
+	 */
+	public synchronized void setPolyphony(int polyphony) {
+		if (polyphony <= 0)
+			throw new IllegalArgumentException("La polifonia deve essere positiva");
+
+		this.polyphony = polyphony;
+		for (ClipPool pool : pools.values())
+			pool.trim(polyphony);
+	}
+
+	/**
+	 * Chiude tutte le clip aperte, rilasciando le linee audio.
+	 * Gli effetti restano decodificati e possono essere riprodotti di nuovo.
+	 */
+	public synchronized void close() {
+		for (ClipPool pool : pools.values())
+			pool.trim(0);
+	}
+
+	/**
+	 * Pool delle clip di un effetto, con i campioni decodificati condivisi da tutte le clip.
+	 * Una clip è considerata libera quando è trascorsa la durata dell'effetto dal suo ultimo avvio.
+	 */
+	private static class ClipPool {
+		private final AudioFormat format;
+		private final byte[] data;
+		private final long durationNanos;
+		private final List<Clip> clips;
+		private long[] startTimes;
+
+		ClipPool(AudioFormat format, byte[] data) {
+			this.format = format;
+			this.data = data;
+			this.durationNanos = (long) (data.length / format.getFrameSize() / (double) format.getFrameRate() * 1e9);
+			this.clips = new ArrayList<>();
+			this.startTimes = new long[DEFAULT_POLYPHONY];
+		}
+
+		/**
+		 * Riproduce l'effetto su una clip libera, aprendone una nuova se il limite lo consente
+		 * o riavviando quella in riproduzione da più tempo.
+		 *
+		 * @param polyphony Numero massimo di clip del pool
+		 * @throws LineUnavailableException Se non è possibile aprire una nuova linea audio
+		 */
+		void play(int polyphony) throws LineUnavailableException {
+			long now = System.nanoTime();
+			int index = -1;
+			int oldest = 0;
+			for (int i = 0; i < clips.size() && index < 0; i++) {
+				if (now - startTimes[i] >= durationNanos)
+					index = i;
+				else if (startTimes[i] < startTimes[oldest])
+					oldest = i;
+			}
+
+			if (index < 0 && clips.size() < polyphony) {
+				Clip clip = AudioSystem.getClip();
+				clip.open(format, data, 0, data.length);
+				clips.add(clip);
+				index = clips.size() - 1;
+				if (index == startTimes.length)
+					startTimes = Arrays.copyOf(startTimes, index * 2);
+			}
+
+			if (index < 0)
+				index = oldest;
+
+			Clip clip = clips.get(index);
+			clip.stop();
+			clip.setFramePosition(0);
+			clip.start();
+			startTimes[index] = now;
+		}
+
+		/**
+		 * Chiude le clip oltre il limite indicato.
+		 *
+		 * @param limit Numero di clip da mantenere
+		 */
+		void trim(int limit) {
+			while (clips.size() > limit)
+				clips.remove(clips.size() - 1).close();
+		}
 	}
 }
@@ -1,54 +1,181 @@
 package Controller;
 
+import View.AnimationQueue;
 import javafx.animation.PauseTransition;
 import javafx.util.Duration;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Gestisce una coda di effetti sonori da riprodurre in sequenza.
- * Garantisce che i suoni non si sovrappongano e vengano riprodotti in ordine
- * con un ritardo appropriato tra un effetto e l'altro.
- * 
+ * Gestisce le code degli effetti sonori del tavolo.
+ * Gli effetti brevi (carte, fiches, clic) hanno una propria coda con un intervallo ridotto e possono
+ * sovrapporsi agli altri effetti; gli altri effetti vengono riprodotti in sequenza, con un ritardo
+ * appropriato tra un effetto e l'altro, in ordine di priorità.
+ * <p>
+ * Entrambe le code sono limitate a {@value #MAX_PENDING} effetti in attesa, così che l'audio resti
+ * allineato al tavolo anche durante raffiche di eventi: un effetto breve prende il posto del più vecchio
+ * in attesa e viene scartato se non è stato riprodotto entro {@value #MAX_SHORT_LATENCY_MILLIS} ms, mentre
+ * un effetto uguale a uno già in attesa viene unito a quest'ultimo e, a coda piena, viene scartato l'effetto
+ * meno prioritario. Gli intervalli seguono la velocità dell'{@link AnimationQueue}.
+ *
  * @author JBlackJack Team
  * @version 1.0
  * @since 1.0
  */
 public class AudioQueue {
-    private static final Queue<Runnable> audioQueue = new LinkedList<>();
-    private static boolean isPlaying = false;
+    /** Numero massimo di effetti in attesa in ciascuna coda. */
+    public static final int MAX_PENDING = 4;
+    /** Ritardo massimo oltre il quale un effetto breve in attesa non viene più riprodotto. */
+    public static final long MAX_SHORT_LATENCY_MILLIS = 1000;
     private static final double DELAY_BETWEEN_SOUNDS = 500;
+    private static final double DELAY_BETWEEN_SHORT_SOUNDS = 120;
+    private static final Channel effects = new Channel(DELAY_BETWEEN_SOUNDS, true);
+    private static final Channel shortEffects = new Channel(DELAY_BETWEEN_SHORT_SOUNDS, false);
 
     /**
      * Aggiunge un effetto sonoro alla coda di riproduzione.
-     * L'effetto verrà riprodotto quando sarà il suo turno nella coda.
+     * L'effetto verrà riprodotto quando sarà il suo turno nella coda, se non viene scartato
+     * o unito a un effetto uguale perché la coda è piena.
      *
      * @param effect L'effetto sonoro da aggiungere alla coda
      */
     public static void queue(AudioManager.SoundEffect effect) {
-        audioQueue.add(() -> {
-            AudioManager.getInstance().playSound(effect);
-            PauseTransition pause = new PauseTransition(Duration.millis(DELAY_BETWEEN_SOUNDS));
-            pause.setOnFinished(e -> playNext());
-            pause.play();
-        });
+        if (isShort(effect))
+            shortEffects.add(effect);
+        else
+            effects.add(effect);
+    }
+
+    /**
+     * Indica se un effetto è breve e può quindi sovrapporsi agli altri.
+     *
+     * @param effect L'effetto sonoro
+     * @return true per gli effetti di carte, fiches e pulsanti
+     */
+    private static boolean isShort(AudioManager.SoundEffect effect) {
+        return switch (effect) {
+            case BUTTON_CLICK, CARD_DEAL, CHIP_PLACE, CHIP_STACK -> true;
+            default -> false;
+        };
+    }
 
-        if (!isPlaying)
-            playNext();
+    /**
+     * Restituisce la priorità di un effetto: a coda piena vengono scartati per primi gli effetti meno prioritari.
+     *
+     * @param effect L'effetto sonoro
+     * @return La priorità, maggiore per gli esiti della mano
+     */
+    private static int priorityOf(AudioManager.SoundEffect effect) {
+        return switch (effect) {
+            case BLACKJACK, WIN, LOSE -> 2;
+            case SPLIT, DOUBLE_DOWN, SHUFFLE -> 1;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Effetto in attesa e istante in cui è stato accodato.
+     */
+    private record Pending(AudioManager.SoundEffect effect, long queuedAt) {
     }
 
     /**
-     * Riproduce il prossimo effetto sonoro nella coda.
-     * Se la coda è vuota, imposta il flag di riproduzione a false.
+     * Coda limitata di effetti riprodotti in sequenza con un intervallo fisso.
      */
-    private static void playNext() {
-        if (audioQueue.isEmpty()) {
-            isPlaying = false;
-            return;
+    private static final class Channel {
+        private final double delayMillis;
+        private final boolean prioritized;
+        private final List<Pending> pending;
+        private boolean isPlaying;
+
+        /**
+         * Costruisce una coda.
+         *
+         * @param delayMillis Intervallo tra due effetti a velocità 1
+         * @param prioritized true per unire gli effetti uguali e scartare i meno prioritari,
+         *                    false per scartare i più vecchi e quelli riprodotti in ritardo
+         */
+        Channel(double delayMillis, boolean prioritized) {
+            this.delayMillis = delayMillis;
+            this.prioritized = prioritized;
+            this.pending = new ArrayList<>(MAX_PENDING);
+        }
+
+        /**
+         * Accoda un effetto applicando la politica della coda.
+         *
+         * @param effect L'effetto da accodare
+         */
+        void add(AudioManager.SoundEffect effect) {
+            if (prioritized)
+                for (Pending queued : pending)
+                    if (queued.effect() == effect)
+                        return;
+
+            if (pending.size() == MAX_PENDING) {
+                int victim = prioritized ? leastImportant() : 0;
+                if (priorityOf(pending.get(victim).effect()) > priorityOf(effect))
+                    return;
+                pending.remove(victim);
+            }
+
+            pending.add(new Pending(effect, System.nanoTime()));
+            if (!isPlaying)
+                playNext();
+        }
+
+        /**
+         * Riproduce il prossimo effetto della coda.
+         * Se la coda è vuota, imposta il flag di riproduzione a false.
+         */
+        private void playNext() {
+            Pending next = poll();
+            if (next == null) {
+                isPlaying = false;
+                return;
+            }
+
+            isPlaying = true;
+            AudioManager.getInstance().playSound(next.effect());
+            double delay = AnimationQueue.isInstant() ? 0 : delayMillis / AnimationQueue.getSpeed();
+            PauseTransition pause = new PauseTransition(Duration.millis(delay));
+            pause.setOnFinished(e -> playNext());
+            pause.play();
         }
 
-        isPlaying = true;
-        Runnable nextAudio = audioQueue.poll();
-        nextAudio.run();
+        /**
+         * Estrae il prossimo effetto da riprodurre: il più prioritario e, a parità, il più vecchio.
+         * Gli effetti brevi rimasti in attesa troppo a lungo vengono scartati.
+         *
+         * @return L'effetto, o null se non ci sono effetti da riprodurre
+         */
+        private Pending poll() {
+            long now = System.nanoTime();
+            while (!pending.isEmpty()) {
+                int index = 0;
+                if (prioritized)
+                    for (int i = 1; i < pending.size(); i++)
+                        if (priorityOf(pending.get(i).effect()) > priorityOf(pending.get(index).effect()))
+                            index = i;
+
+                Pending next = pending.remove(index);
+                if (prioritized || now - next.queuedAt() <= MAX_SHORT_LATENCY_MILLIS * 1_000_000)
+                    return next;
+            }
+            return null;
+        }
+
+        /**
+         * Restituisce l'indice dell'effetto meno prioritario e, a parità, più vecchio.
+         *
+         * @return L'indice dell'effetto da scartare
+         */
+        private int leastImportant() {
+            int index = 0;
+            for (int i = 1; i < pending.size(); i++)
+                if (priorityOf(pending.get(i).effect()) < priorityOf(pending.get(index).effect()))
+                    index = i;
+            return index;
+        }
     }
 }
@@ -22,15 +22,20 @@ public class BettingController implements BlackjackBettingListener {
     /** Vista principale del gioco */
     protected final BlackJackView view;
 
+    /** Batcher che consegna alla vista gli eventi prodotti da ogni azione */
+    private final FxEventBatcher eventBatcher;
+
     /**
      * Costruisce un nuovo BettingController.
      * 
      * @param model Il modello del gioco
      * @param view La vista principale del gioco
+     * @param eventBatcher Il batcher che consegna alla vista gli eventi prodotti da ogni azione
      */
-    public BettingController(GameModel model, BlackJackView view) {
+    public BettingController(GameModel model, BlackJackView view, FxEventBatcher eventBatcher) {
         this.model = model;
         this.view = view;
+        this.eventBatcher = eventBatcher;
     }
 
     /**
@@ -48,15 +53,15 @@ public class BettingController implements BlackjackBettingListener {
     public void handleEvent(GameEvent event) {
         switch (event.getType()) {
             case BET_PLACED:
-                int betAmount = (int) event.getData().get("amount");
-                if (event.getData().get("player").equals(model.getHumanPlayer().getName())) {
-                    int balance = (int) event.getData().get("balance");
+                GameEvent.BetPlaced betPlaced = (GameEvent.BetPlaced) event;
+                int betAmount = betPlaced.amount();
+                if (betPlaced.player() == model.getHumanPlayer()) {
                     view.getPlayerView().updateCurrentBet(betAmount);
-                    view.getPlayerView().updateBalance(balance);
+                    view.getPlayerView().updateBalance(betPlaced.balance());
                     view.getPlayerHands().updateBet(betAmount, 0);
                 }
                 else {
-                    view.getAIPlayerViews().get((int) event.getData().get("index")).updateBet(betAmount, 0);
+                    view.getAIPlayerViews().get(betPlaced.seatIndex()).updateBet(betAmount, 0);
                 }
                 break;
 
@@ -70,25 +75,19 @@ public class BettingController implements BlackjackBettingListener {
                 break;
 
             case INSURANCE_ACCEPTED:
-                Player player = (Player) event.getData().get("player");
-                int insuranceAmount = (int) event.getData().get("amount");
-                int currentBalance = (int) event.getData().get("balance");
-                int handIndex_ = (int) event.getData().get("handIndex");
+                GameEvent.InsuranceAccepted insurance = (GameEvent.InsuranceAccepted) event;
+                Player player = insurance.player();
 
                 if (player instanceof AIPlayer){
                     int playerIndex = model.getPlayers().indexOf(player);
-                    view.getAIPlayerViews().get(playerIndex).updateInsurance(insuranceAmount, handIndex_);
+                    view.getAIPlayerViews().get(playerIndex).updateInsurance(insurance.amount(), insurance.handIndex());
                 } else {
-                    view.getPlayerHands().updateInsurance(insuranceAmount, handIndex_);
-                    view.getPlayerView().updateBalance(currentBalance);
+                    view.getPlayerHands().updateInsurance(insurance.amount(), insurance.handIndex());
+                    view.getPlayerView().updateBalance(insurance.balance());
                 }
                 break;
 
-            case DOUBLE_DOWN_EXECUTED:
-                int newBet = (int) event.getData().get("bet") * 2;
-                int handIndex = (int) event.getData().get("handIndex");
-                view.getPlayerHands().updateBet(newBet, handIndex);
-                view.getPlayerView().updateBalance(model.getHumanPlayer().getBalance());
+            default:
                 break;
         }
     }
@@ -106,6 +105,7 @@ public class BettingController implements BlackjackBettingListener {
         view.getPlayerHands().updateBet(amount, 0);
         AudioQueue.queue(AudioManager.SoundEffect.CHIP_STACK);
         model.startRound(amount);
+        eventBatcher.flush();
     }
 
     /**
@@ -116,6 +116,7 @@ public class BettingController implements BlackjackBettingListener {
         AudioQueue.queue(AudioManager.SoundEffect.BUTTON_CLICK);
         AudioQueue.queue(AudioManager.SoundEffect.CHIP_PLACE);
         model.takeInsurance();
+        eventBatcher.flush();
     }
 
     /**
@@ -125,5 +126,6 @@ public class BettingController implements BlackjackBettingListener {
     public void onInsuranceDeclined() {
         AudioQueue.queue(AudioManager.SoundEffect.BUTTON_CLICK);
         model.declineInsurance();
+        eventBatcher.flush();
     }
 }
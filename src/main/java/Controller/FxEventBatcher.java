@@ -0,0 +1,58 @@
+package Controller;
+
+import Model.Game.DeliveryMode;
+import Model.Game.DispatchingEventBus;
+import Model.Game.EventBus;
+import javafx.application.Platform;
+
+/**
+ * Stadio di raccolta tra il modello di gioco e il thread JavaFX.
+ * Il modello pubblica su un bus in modalità {@link DeliveryMode#BATCHED}: gli eventi prodotti
+ * da un'azione dell'utente (ad esempio tutte le carte dei turni AI e del dealer dopo uno Stand)
+ * restano in coda e vengono consegnati ai controller tutti insieme, in un solo {@link Platform#runLater}.
+ * Gli eventi trasportano già i valori calcolati al momento della pubblicazione,
+ * quindi la consegna differita non dipende dallo stato successivo del modello.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class FxEventBatcher {
+    private final EventBus eventBus;
+    private boolean pulseScheduled;
+
+    /**
+     * Costruisce un batcher sul bus indicato.
+     *
+     * @param eventBus Il bus del modello, normalmente creato con {@link #createBus()}
+     */
+    public FxEventBatcher(EventBus eventBus) {
+        this.eventBus = eventBus;
+        this.pulseScheduled = false;
+    }
+
+    /**
+     * Crea un bus in modalità BATCHED da passare al modello di gioco.
+     *
+     * @return Un nuovo bus che accoda gli eventi fino al flush
+     */
+    public static EventBus createBus() {
+        return new DispatchingEventBus(DeliveryMode.BATCHED, null);
+    }
+
+    /**
+     * Pianifica la consegna di tutti gli eventi in coda in un unico passaggio sul thread JavaFX.
+     * Va chiamato dopo ogni azione dell'utente sul modello; più chiamate prima del passaggio
+     * vengono unite in una sola consegna.
+     */
+    public void flush() {
+        if (pulseScheduled)
+            return;
+
+        pulseScheduled = true;
+        Platform.runLater(() -> {
+            pulseScheduled = false;
+            eventBus.flush();
+        });
+    }
+}
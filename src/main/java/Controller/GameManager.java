@@ -1,13 +1,20 @@
 package Controller;
 
+import Model.Game.EventBus;
 import Model.Game.GameModel;
+import Model.Game.Objects.Deck;
+import Model.History.HandHistoryRecorder;
+import Model.History.HandHistoryWriter;
 import Model.Profile.ProfileManager;
+import Model.Profile.ProfileWriter;
 import Model.Profile.UserProfile;
 import Utility.LoggerUtility;
 import View.BlackJackView;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Gestore principale dell'applicazione BlackJack.
@@ -19,19 +26,23 @@ import javafx.stage.Stage;
  * @since 1.0
  */
 public class GameManager {
+    private static final Path HAND_HISTORY_PATH = Path.of("hand_history.bin");
     private static GameManager instance;
     private ProfileManager profileManager;
+    private ProfileWriter profileWriter;
     private UserProfile currentProfile;
     private static final LoggerUtility logger = new LoggerUtility();
     private Stage primaryStage;
     private GameModel gameModel;
+    private HandHistoryRecorder handHistory;
 
     /**
      * Costruttore privato per implementare il pattern Singleton.
-     * Inizializza il ProfileManager e crea un profilo utente vuoto.
+     * Inizializza il ProfileManager, lo scrittore dei profili in background e crea un profilo utente vuoto.
      */
     private GameManager() {
         profileManager = ProfileManager.getInstance();
+        profileWriter = new ProfileWriter(profileManager);
         currentProfile = new UserProfile();
     }
 
@@ -99,6 +110,7 @@ public class GameManager {
 
     /**
      * Avvia una nuova partita con i parametri specificati.
+     * I round della partita vengono registrati nello storico delle mani.
      * 
      * @param numberOfPlayers Il numero di giocatori AI da includere
      * @param cardBackDesign Il design del dorso delle carte selezionato
@@ -116,7 +128,9 @@ public class GameManager {
             BorderPane tempRoot = new BorderPane();
             Scene gameScene = new Scene(tempRoot, 1355, 885);
             gameScene.getStylesheets().add(getClass().getResource("/GameView/blackjack.css").toExternalForm());
-            gameModel = new GameModel(playerName, initialBalance, numberOfPlayers);
+            EventBus eventBus = FxEventBatcher.createBus();
+            gameModel = new GameModel(playerName, initialBalance, numberOfPlayers, eventBus);
+            openHandHistory(eventBus);
             BlackJackView blackjackView = new BlackJackView(cardBackDesign, currentProfile.getAvatarPath(), numberOfPlayers, currentProfile.getNickname(), currentProfile.getStats().getCurrentBalance());
             gameScene.setRoot(blackjackView);
             MainController mainController = new MainController(gameModel, blackjackView);
@@ -134,6 +148,7 @@ public class GameManager {
     /**
      * Aggiorna le statistiche del giocatore al termine di una sessione di gioco.
      * Riproduce anche effetti sonori appropriati basati sui risultati.
+     * Il salvataggio avviene in background, senza bloccare il thread dell'interfaccia.
      * 
      * @param finalBalance Il saldo finale del giocatore
      * @param totalHands Il numero totale di mani giocate nella sessione
@@ -158,11 +173,53 @@ public class GameManager {
         currentProfile.getStats().setHandsLost(
                 currentProfile.getStats().getHandsLost() + lostHands);
 
-        profileManager.updateProfile(currentProfile);
+        profileWriter.submit(currentProfile);
 
         logger.logInfo("Statistiche aggiornate: balance=" + finalBalance +
                 ", mani giocate=" + totalHands +
                 ", vinte=" + wonHands +
                 ", perse=" + lostHands);
     }
+
+    /**
+     * Apre lo storico delle mani e lo iscrive agli eventi della nuova partita,
+     * chiudendo quello della partita precedente. Se lo storico non può essere aperto
+     * la partita prosegue senza registrare i round.
+     *
+     * @param eventBus Il bus degli eventi della partita
+     */
+    private void openHandHistory(EventBus eventBus) {
+        closeHandHistory();
+        try {
+            handHistory = new HandHistoryRecorder(new HandHistoryWriter(HAND_HISTORY_PATH, Deck.DEFAULT_DECK_COUNT));
+            handHistory.attach(eventBus);
+        } catch (IOException e) {
+            logger.logError("Impossibile aprire lo storico delle mani: " + HAND_HISTORY_PATH, e);
+        }
+    }
+
+    /**
+     * Scrive i round registrati e chiude lo storico delle mani, se aperto.
+     */
+    private void closeHandHistory() {
+        if (handHistory == null)
+            return;
+
+        try {
+            handHistory.close();
+        } catch (IOException e) {
+            logger.logError("Errore nella chiusura dello storico delle mani: " + e.getMessage(), e);
+        }
+        handHistory = null;
+    }
+
+    /**
+     * Arresta il gestore alla chiusura dell'applicazione,
+     * scrivendo su disco le statistiche dei profili, lo storico delle mani e i messaggi di log ancora in attesa.
+     */
+    public void shutdown() {
+        profileWriter.close();
+        closeHandHistory();
+        LoggerUtility.disableAsync();
+    }
 }
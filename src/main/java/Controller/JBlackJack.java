@@ -1,5 +1,6 @@
 package Controller;
 
+import Utility.LoggerUtility;
 import java.util.logging.*;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -22,6 +23,8 @@ public class JBlackJack extends Application {
     /**
      * Metodo di avvio dell'applicazione JavaFX.
      * Carica l'interfaccia FXML principale e configura la finestra dell'applicazione.
+     * Attiva il logging asincrono, così che i messaggi non rallentino il thread dell'interfaccia;
+     * immagini ed effetti sonori vengono caricati in background dal menu.
      * 
      * @param stage Lo stage principale dell'applicazione
      * @throws IOException Se si verifica un errore nel caricamento del file FXML
@@ -29,6 +32,7 @@ public class JBlackJack extends Application {
     @Override
     public void start(Stage stage) throws IOException {
         logger.info("Starting Black Jack");
+        LoggerUtility.enableAsync(LoggerUtility.DEFAULT_ASYNC_CAPACITY);
         FXMLLoader fxmlLoader = new FXMLLoader(JBlackJack.class.getResource("/GameMenu/MenuView.fxml"));
         Scene scene = new Scene(fxmlLoader.load(), 834.0, 600.0);
         stage.setTitle("Blackjack");
@@ -38,6 +42,18 @@ public class JBlackJack extends Application {
         stage.show();
     }
 
+    /**
+     * Metodo di arresto dell'applicazione JavaFX.
+     * Scrive su disco le statistiche dei profili e i messaggi di log ancora in attesa
+     * e rilascia le linee audio.
+     */
+    @Override
+    public void stop() {
+        logger.info("Stopping Black Jack");
+        GameManager.getInstance().shutdown();
+        AudioManager.getInstance().close();
+    }
+
     /**
      * Metodo main dell'applicazione.
      * Punto di ingresso dell'applicazione che avvia JavaFX.
@@ -3,29 +3,28 @@ package Controller;
 import Model.Game.GameEvent;
 import Model.Game.GameEventType;
 import Model.Game.GameModel;
-import Model.Game.Objects.Card;
+import Model.Game.EventBus;
 import View.BlackJackView;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
-import java.util.Observable;
-import java.util.Observer;
 
 /**
  * Controller principale che coordina tutti i controller secondari del gioco BlackJack.
- * Implementa il pattern Observer per ricevere eventi dal TurnManager e
- * distribuirli ai controller appropriati (ActionController e BettingController).
+ * Si registra sul bus degli eventi del TurnManager per i soli tipi di evento che gestisce e
+ * li distribuisce ai controller appropriati (ActionController e BettingController).
  * 
  * @author JBlackJack Team
  * @version 1.0
  * @since 1.0
  */
-public class MainController implements Observer, RoundEndListener {
+public class MainController implements RoundEndListener {
     private final GameModel model;
     private final BlackJackView view;
     private final ActionController actionController;
     private final BettingController bettingController;
+    private final FxEventBatcher eventBatcher;
 
     /**
      * Costruisce il MainController e inizializza tutti i sotto-controller.
@@ -36,90 +35,68 @@ public class MainController implements Observer, RoundEndListener {
     public MainController(GameModel model, BlackJackView view) {
         this.model = model;
         this.view = view;
-        this.actionController = new ActionController(model, view);
-        this.bettingController = new BettingController(model, view);
-        model.getTurnManager().addObserver(this);
+        this.eventBatcher = new FxEventBatcher(model.getTurnManager().getEventBus());
+        this.actionController = new ActionController(model, view, eventBatcher);
+        this.bettingController = new BettingController(model, view, eventBatcher);
+        subscribeEvents(model.getTurnManager().getEventBus());
         view.setRoundEndListener(this);
         actionController.initialize();
         bettingController.initialize();
     }
 
     /**
-     * Riceve notifiche di aggiornamento dal TurnManager osservato.
-     * 
-     * @param o L'oggetto osservato (TurnManager)
-     * @param arg L'argomento passato (GameEvent)
-     */
-    @Override
-    public void update(Observable o, Object arg) {
-        if (o.equals(model.getTurnManager()) && arg instanceof GameEvent) {
-            GameEvent event = (GameEvent) arg;
-            dispatchEvent(event);
-        }
-    }
-
-    /**
-     * Distribuisce gli eventi ai controller appropriati in base al tipo di evento.
-     * 
-     * @param event L'evento di gioco da distribuire
+     * Registra sul bus degli eventi un gestore per ogni tipo di evento di interesse,
+     * indirizzandolo al controller appropriato.
+     *
+     * @param eventBus Il bus su cui il TurnManager pubblica gli eventi
      */
-    private void dispatchEvent(GameEvent event) {
-        GameManager gameManager = GameManager.getInstance();
-        GameEventType type = event.getType();
+    private void subscribeEvents(EventBus eventBus) {
+        eventBus.subscribe(GameEventType.SHOE_SHUFFLED, event -> AudioQueue.queue(AudioManager.SoundEffect.SHUFFLE));
+        eventBus.subscribe(GameEventType.ROUND_ENDED, event -> handleRoundEnded((GameEvent.RoundEnded) event));
+        eventBus.subscribe(GameEventType.GAME_STATE_CHANGED, event -> actionController.updatePlayerControls());
+        eventBus.subscribe(GameEventType.DEALER_TURN_STARTED, event -> handleDealerTurnStarted((GameEvent.DealerTurnStarted) event));
 
-        switch (type) {
-            case GAME_STARTED:
-                AudioQueue.queue(AudioManager.SoundEffect.SHUFFLE);
-                break;
-            case ROUND_STARTED:
-            case ROUND_ENDED:
-                int finalBalance = (int) event.getData().get("finalBalance");
-                int wonHands = (int) event.getData().get("wonHands");
-                int lostHands = (int) event.getData().get("lostHands");
-                int totalHands = (int) event.getData().get("totalHands");
+        // Eventi delle azioni → ActionController
+        for (GameEventType type : new GameEventType[] { GameEventType.CARD_DEALT, GameEventType.HAND_UPDATED,
+                GameEventType.PLAYER_STAND, GameEventType.PLAYER_BUSTED, GameEventType.HAND_SPLIT,
+                GameEventType.DOUBLE_DOWN_EXECUTED })
+            eventBus.subscribe(type, actionController::handleEvent);
 
-                gameManager.updatePlayerStats(finalBalance, totalHands, wonHands, lostHands);
-                view.getPlayerView().updateBalance(finalBalance);
-                int minimumBet = 10;
-                view.showEndRoundPanel(finalBalance, minimumBet);
-                break;
-            case GAME_STATE_CHANGED:
+        // Eventi delle scommesse → BettingController
+        for (GameEventType type : new GameEventType[] { GameEventType.BET_PLACED, GameEventType.INSURANCE_ACCEPTED,
+                GameEventType.INSURANCE_DECLINED, GameEventType.INSURANCE_OFFERED })
+            eventBus.subscribe(type, event -> {
                 actionController.updatePlayerControls();
-                break;
-            case DEALER_TURN_STARTED:
-                Card hiddenCard = (Card) event.getData().get("card");
-                int handValue = (int) event.getData().get("handValue");
-                AudioQueue.queue(AudioManager.SoundEffect.SPLIT);
-                view.getDealerView().revealHiddenCard(hiddenCard, handValue);
-                break;
+                bettingController.handleEvent(event);
+            });
 
-            // Eventi delle azioni → ActionController
-            case CARD_DEALT:
-            case HAND_UPDATED:
-            case PLAYER_HIT:
-            case PLAYER_STAND:
-            case PLAYER_BUSTED:
-            case HAND_SPLIT:
-            case DOUBLE_DOWN_EXECUTED:
-                actionController.handleEvent(event);
-                break;
+        eventBus.subscribe(GameEventType.BLACKJACK_ACHIEVED, event -> {
+            actionController.handleEvent(event);
+            bettingController.handleEvent(event);
+        });
+    }
 
-            // Eventi delle scommesse → BettingController
-            case BET_PLACED:
-            case INSURANCE_ACCEPTED:
-            case INSURANCE_DECLINED:
-            case INSURANCE_OFFERED:
-                actionController.updatePlayerControls();
-                bettingController.handleEvent(event);
-                break;
-            case BLACKJACK_ACHIEVED:
-                actionController.handleEvent(event);
-                bettingController.handleEvent(event);
-                break;
+    /**
+     * Gestisce la fine del round: aggiorna le statistiche del giocatore e mostra il pannello di fine round.
+     *
+     * @param event L'evento di fine round
+     */
+    private void handleRoundEnded(GameEvent.RoundEnded event) {
+        int finalBalance = event.finalBalance();
+        GameManager.getInstance().updatePlayerStats(finalBalance, event.totalHands(), event.wonHands(), event.lostHands());
+        view.getPlayerView().updateBalance(finalBalance);
+        int minimumBet = 10;
+        view.showEndRoundPanel(finalBalance, minimumBet);
+    }
 
-            default:
-                break;
-        }
+    /**
+     * Gestisce l'inizio del turno del dealer rivelando la carta coperta.
+     *
+     * @param event L'evento di inizio turno del dealer
+     */
+    private void handleDealerTurnStarted(GameEvent.DealerTurnStarted event) {
+        AudioQueue.queue(AudioManager.SoundEffect.SPLIT);
+        view.getDealerView().revealHiddenCard(event.hiddenCard(), event.handValue());
     }
 
     /**
@@ -2,18 +2,21 @@ package Controller;
 
 import Model.Profile.GameStats;
 import Model.Profile.ProfileManager;
+import Model.Profile.RankingCriterion;
 import Model.Profile.UserProfile;
 import Utility.LoggerUtility;
+import View.AssetPreloader;
+import View.ImageCache;
 import javafx.animation.FadeTransition;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.animation.TranslateTransition;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
-import javafx.scene.image.Image;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.ImagePattern;
@@ -21,9 +24,7 @@ import javafx.scene.shape.Circle;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Controller per il menu principale dell'applicazione. Gestisce la navigazione tra i diversi
@@ -31,6 +32,8 @@ import java.util.stream.Collectors;
  */
 public class MenuController {
     private static final LoggerUtility logger = new LoggerUtility();
+    /** Numero massimo di profili mostrati nella classifica. */
+    private static final int RANKING_SIZE = 100;
     @FXML
     private VBox playMenuBox, profileMenuBox, rankMenuBox;
     @FXML
@@ -73,13 +76,11 @@ public class MenuController {
             "/GameMenu/Images/avatar4.png"
     );
 
-    private List<Image> avatarImages = avatarPaths.stream()
-            .map(path -> new Image(getClass().getResourceAsStream(path)))
-            .collect(Collectors.toList());
 
     /**
      * Inizializza il controller dopo che i componenti FXML sono stati caricati.
-     * Imposta la posizione iniziale dei menu fuori dallo schermo.
+     * Imposta la posizione iniziale dei menu fuori dallo schermo e avvia in background il caricamento
+     * delle risorse del gioco; la musica del menu parte al termine del caricamento.
      */
     @FXML
     public void initialize() {
@@ -89,15 +90,36 @@ public class MenuController {
         newProfileBox.setTranslateX(550);
         rankMenuBox.setTranslateX(550);
         gameManager = gameManager.getInstance();
-        newAvatarCircle.setFill(new ImagePattern(avatarImages.get(currentAvatarIndex)));
-        loadAvatarCircle.setFill(new ImagePattern(avatarImages.get(currentAvatarIndex)));
+        AssetPreloader.start(avatarPaths, (completed, total) -> {
+            if (completed == total)
+                logger.logInfo("Risorse del gioco caricate: " + total);
+        }).thenRun(() -> Platform.runLater(() ->
+                AudioManager.getInstance().playSound(AudioManager.SoundEffect.MENU_MUSIC)));
+        showAvatar(newAvatarCircle, avatarPaths.get(currentAvatarIndex));
+        showAvatar(loadAvatarCircle, avatarPaths.get(currentAvatarIndex));
         playerNameColumn.setCellValueFactory(new PropertyValueFactory<>("nickname"));
         valueColumn.setCellValueFactory(cellData -> {
             UserProfile user = cellData.getValue();
             return new javafx.beans.property.SimpleIntegerProperty(getValueForCriteria(user, rankingCriteriaComboBox.getValue())).asObject();
         });
         rankingCriteriaComboBox.setOnAction(event -> loadRanking(rankingCriteriaComboBox.getValue()));
-        AudioManager.getInstance().playSound(AudioManager.SoundEffect.MENU_MUSIC);
+    }
+
+    /**
+     * Mostra un avatar in un cerchio appena l'immagine è disponibile, senza decodificarla sul thread JavaFX.
+     * Se nel frattempo al cerchio è stato chiesto un altro avatar, l'immagine viene ignorata.
+     *
+     * @param circle Il cerchio in cui mostrare l'avatar
+     * @param avatarPath Il percorso dell'avatar
+     */
+    private void showAvatar(Circle circle, String avatarPath) {
+        circle.setUserData(avatarPath);
+        ImageCache.getAsync(avatarPath).whenComplete((image, error) -> Platform.runLater(() -> {
+            if (error != null)
+                logger.logWarning("Impossibile caricare l'avatar: " + avatarPath);
+            else if (avatarPath.equals(circle.getUserData()))
+                circle.setFill(new ImagePattern(image));
+        }));
     }
 
     /**
@@ -131,32 +153,20 @@ public class MenuController {
     }
 
     /**
-     * Carica e ordina la classifica dei profili utente secondo il criterio specificato.
-     * Recupera tutti i profili dal ProfileManager, li ordina in base al criterio selezionato
-     * e aggiorna la TableView con i risultati ordinati.
+     * Carica la classifica dei profili utente secondo il criterio specificato.
+     * Legge dal ProfileManager i primi {@value #RANKING_SIZE} profili della classifica già ordinata
+     * e aggiorna la TableView con i risultati.
      *
      * @param criteria Il criterio di ordinamento da applicare. Deve essere uno dei valori
      *                 supportati: "Hands Lost", "Hands Won", "Total Hands Played", "Current Balance".
-     *                 Se il criterio non è riconosciuto, la lista non viene ordinata.
+     *                 Se il criterio non è riconosciuto, i profili vengono mostrati nell'ordine di registrazione.
      * @since 1.0
      */
     private void loadRanking(String criteria) {
-        List<UserProfile> profiles = ProfileManager.getInstance().getProfiles();
-
-        switch (criteria) {
-            case "Hands Lost":
-                profiles.sort(Comparator.comparingInt(p -> p.getStats().getHandsLost()));
-                break;
-            case "Hands Won":
-                profiles.sort((p1, p2) -> Integer.compare(p2.getStats().getHandsWon(), p1.getStats().getHandsWon()));
-                break;
-            case "Total Hands Played":
-                profiles.sort((p1, p2) -> Integer.compare(p2.getStats().getTotalHandsPlayed(), p1.getStats().getTotalHandsPlayed()));
-                break;
-            case "Current Balance":
-                profiles.sort((p1, p2) -> Double.compare(p2.getStats().getCurrentBalance(), p1.getStats().getCurrentBalance()));
-                break;
-        }
+        RankingCriterion criterion = RankingCriterion.fromLabel(criteria);
+        List<UserProfile> profiles = criterion != null
+                ? ProfileManager.getInstance().getRanking(criterion, RANKING_SIZE)
+                : ProfileManager.getInstance().getProfiles();
 
         ObservableList<UserProfile> rankedProfiles = FXCollections.observableArrayList(profiles);
         rankingTableView.setItems(rankedProfiles);
@@ -183,22 +193,18 @@ public class MenuController {
      */
     private int getValueForCriteria(UserProfile profile, String criteria) {
         if (profile == null || profile.getStats() == null) return 0;
-        switch (criteria) {
-            case "Hands Lost": return profile.getStats().getHandsLost();
-            case "Hands Won": return profile.getStats().getHandsWon();
-            case "Total Hands Played": return profile.getStats().getTotalHandsPlayed();
-            case "Current Balance": return (int) profile.getStats().getCurrentBalance();
-            default: return 0;
-        }
+        RankingCriterion criterion = RankingCriterion.fromLabel(criteria);
+        return criterion != null ? criterion.valueOf(profile.getStats()) : 0;
     }
 
     /**
      * Gestisce il clic sul pulsante "Exit".
-     * Chiude l'applicazione.
+     * Chiude l'applicazione dopo aver salvato le statistiche dei profili in attesa.
      */
     @FXML
     public void onExitButtonClick(){
         AudioManager.getInstance().playSound(AudioManager.SoundEffect.BUTTON_CLICK);
+        GameManager.getInstance().shutdown();
         System.exit(0);
     }
 
@@ -341,7 +347,6 @@ public class MenuController {
      * @param nickname Il nickname del profilo da caricare e visualizzare.
      *
      * @throws IllegalArgumentException se il nickname è null
-     * @throws RuntimeException se l'avatar del profilo non può essere caricato
      *
      * @since 1.0
      */
@@ -350,8 +355,7 @@ public class MenuController {
             UserProfile currentProfile = gameManager.loadExistingProfile(nickname);
             if (currentProfile != null) {
                 loadNameField.setText(currentProfile.getNickname());
-                Image avatarImage = new Image(getClass().getResourceAsStream(currentProfile.getAvatarPath()));
-                loadAvatarCircle.setFill(new ImagePattern(avatarImage));
+                showAvatar(loadAvatarCircle, currentProfile.getAvatarPath());
                 GameStats stats = currentProfile.getStats();
                 totalHandsLabel.setText(String.valueOf(stats.getTotalHandsPlayed()));
                 wonHandsLabel.setText(String.valueOf(stats.getHandsWon()));
@@ -372,8 +376,8 @@ public class MenuController {
     @FXML
     public void onNewChangeButtonClick() {
         AudioManager.getInstance().playSound(AudioManager.SoundEffect.BUTTON_CLICK);
-        currentAvatarIndex = (currentAvatarIndex + 1) % avatarImages.size();
-        newAvatarCircle.setFill(new ImagePattern(avatarImages.get(currentAvatarIndex)));
+        currentAvatarIndex = (currentAvatarIndex + 1) % avatarPaths.size();
+        showAvatar(newAvatarCircle, avatarPaths.get(currentAvatarIndex));
     }
 
     /**
@@ -0,0 +1,17 @@
+package Model.Game;
+
+/**
+ * Enumerazione delle modalità di consegna degli eventi di un {@link DispatchingEventBus}.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public enum DeliveryMode {
+    /** Gli eventi vengono consegnati subito, sul thread che li pubblica. */
+    SYNC,
+    /** Gli eventi vengono accodati e consegnati in ordine solo alla chiamata di {@link EventBus#flush()}. */
+    BATCHED,
+    /** Gli eventi vengono accodati e consegnati in ordine su un executor, senza bloccare chi li pubblica. */
+    ASYNC
+}
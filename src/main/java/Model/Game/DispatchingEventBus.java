@@ -0,0 +1,170 @@
+package Model.Game;
+
+import Utility.LoggerUtility;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bus degli eventi con una lista di ascoltatori per ogni {@link GameEventType}.
+ * Le liste sono array copy-on-write: registrazioni e rimozioni copiano l'array del tipo,
+ * mentre la pubblicazione lo scorre senza lock e senza allocazioni.
+ * <p>
+ * La consegna segue la {@link DeliveryMode} scelta alla costruzione:
+ * in modalità SYNC gli eventi arrivano subito sul thread che li pubblica;
+ * in modalità BATCHED restano in coda fino a {@link #flush()};
+ * in modalità ASYNC vengono consegnati in ordine su un executor,
+ * un solo drenaggio della coda alla volta anche se l'executor è multi-thread.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class DispatchingEventBus implements EventBus {
+    private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+
+    private final AtomicReferenceArray<GameEventListener[]> subscribers;
+    private final DeliveryMode mode;
+    private final Executor executor;
+    private final Queue<GameEvent> pending;
+    private final AtomicBoolean draining;
+
+    /**
+     * Costruisce un bus con consegna sincrona.
+     */
+    public DispatchingEventBus() {
+        this(DeliveryMode.SYNC, null);
+    }
+
+    /**
+     * Costruisce un bus con la modalità di consegna indicata.
+     *
+     * @param mode La modalità di consegna
+     * @param executor L'executor su cui consegnare gli eventi, richiesto solo in modalità ASYNC
+     * @throws IllegalArgumentException Se la modalità è ASYNC e l'executor è null
+     */
+    public DispatchingEventBus(DeliveryMode mode, Executor executor) {
+        if (mode == DeliveryMode.ASYNC && executor == null)
+            throw new IllegalArgumentException("La consegna asincrona richiede un executor");
+
+        this.subscribers = new AtomicReferenceArray<>(GameEventType.values().length);
+        for (int i = 0; i < subscribers.length(); i++)
+            subscribers.set(i, NO_LISTENERS);
+        this.mode = mode;
+        this.executor = executor;
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.draining = new AtomicBoolean(false);
+    }
+
+    @Override
+    public synchronized void subscribe(GameEventType type, GameEventListener listener) {
+        GameEventListener[] current = subscribers.get(type.ordinal());
+        GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        subscribers.set(type.ordinal(), updated);
+    }
+
+    @Override
+    public synchronized void unsubscribe(GameEventType type, GameEventListener listener) {
+        GameEventListener[] current = subscribers.get(type.ordinal());
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                GameEventListener[] updated = new GameEventListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                subscribers.set(type.ordinal(), updated);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean hasSubscribers(GameEventType type) {
+        return subscribers.get(type.ordinal()).length > 0;
+    }
+
+    @Override
+    public void publish(GameEvent event) {
+        switch (mode) {
+            case SYNC:
+                deliver(event);
+                break;
+            case BATCHED:
+                if (hasSubscribers(event.getType()))
+                    pending.add(event);
+                break;
+            case ASYNC:
+                if (hasSubscribers(event.getType())) {
+                    pending.add(event);
+                    scheduleDrain();
+                }
+                break;
+        }
+    }
+
+    /**
+     * In modalità BATCHED consegna sul thread chiamante tutti gli eventi in coda, nell'ordine di pubblicazione.
+     * In modalità ASYNC pianifica il drenaggio della coda; in modalità SYNC non fa nulla.
+     */
+    @Override
+    public void flush() {
+        if (mode == DeliveryMode.BATCHED) {
+            GameEvent event;
+            while ((event = pending.poll()) != null)
+                deliver(event);
+        } else if (mode == DeliveryMode.ASYNC) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Restituisce la modalità di consegna del bus.
+     *
+     * @return La modalità di consegna
+     */
+    public DeliveryMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Consegna un evento a tutti gli ascoltatori registrati per il suo tipo.
+     *
+     * @param event L'evento da consegnare
+     */
+    private void deliver(GameEvent event) {
+        GameEventListener[] listeners = subscribers.get(event.getType().ordinal());
+        for (GameEventListener listener : listeners)
+            listener.onEvent(event);
+    }
+
+    /**
+     * Avvia il drenaggio della coda sull'executor, se non ce n'è già uno in corso.
+     */
+    private void scheduleDrain() {
+        if (!pending.isEmpty() && draining.compareAndSet(false, true))
+            executor.execute(this::drain);
+    }
+
+    /**
+     * Consegna in ordine gli eventi in coda. Un ascoltatore che lancia un'eccezione
+     * non interrompe la consegna degli altri eventi.
+     */
+    private void drain() {
+        try {
+            GameEvent event;
+            while ((event = pending.poll()) != null) {
+                try {
+                    deliver(event);
+                } catch (RuntimeException e) {
+                    LoggerUtility.logError("Errore nella consegna dell'evento " + event.getType(), e);
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+        scheduleDrain();
+    }
+}
@@ -0,0 +1,56 @@
+package Model.Game;
+
+/**
+ * Bus degli eventi di gioco.
+ * Gli ascoltatori si registrano per uno specifico {@link GameEventType}
+ * e ricevono solo gli eventi di quel tipo; la modalità di consegna dipende dall'implementazione.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface EventBus {
+
+    /**
+     * Bus che scarta ogni evento, per le partite senza interfaccia (ad esempio le simulazioni).
+     */
+    EventBus NO_OP = new NoOpEventBus();
+
+    /**
+     * Registra un ascoltatore per un tipo di evento.
+     *
+     * @param type Il tipo di evento da ascoltare
+     * @param listener L'ascoltatore da registrare
+     */
+    void subscribe(GameEventType type, GameEventListener listener);
+
+    /**
+     * Rimuove un ascoltatore registrato per un tipo di evento.
+     *
+     * @param type Il tipo di evento
+     * @param listener L'ascoltatore da rimuovere
+     */
+    void unsubscribe(GameEventType type, GameEventListener listener);
+
+    /**
+     * Verifica se esiste almeno un ascoltatore per il tipo di evento.
+     * Permette a chi pubblica di non costruire affatto gli eventi che nessuno ascolta.
+     *
+     * @param type Il tipo di evento
+     * @return true se almeno un ascoltatore è registrato, false altrimenti
+     */
+    boolean hasSubscribers(GameEventType type);
+
+    /**
+     * Pubblica un evento agli ascoltatori registrati per il suo tipo.
+     *
+     * @param event L'evento da pubblicare
+     */
+    void publish(GameEvent event);
+
+    /**
+     * Consegna gli eventi accodati e non ancora consegnati.
+     * Nelle modalità senza coda non fa nulla.
+     */
+    void flush();
+}
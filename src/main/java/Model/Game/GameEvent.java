@@ -1,66 +1,245 @@
 package Model.Game;
 
-import java.util.HashMap;
-import java.util.Map;
+import Model.Game.Objects.Card;
+import Model.Players.Player;
 
 /**
  * Rappresenta un evento del gioco di BlackJack.
- * Contiene informazioni sul tipo di evento e dati associati per fornire contesto agli osservatori.
- * 
+ * Ogni tipo di evento ha un proprio record con campi tipizzati (primitivi dove possibile),
+ * così che gli ascoltatori leggano i dati senza cast per chiave e senza mappe allocate a ogni notifica.
+ * Gli eventi senza dati sono istanze condivise di {@link Signal}.
+ *
  * @author JBlackJack Team
  * @version 1.0
  * @since 1.0
  */
-public class GameEvent {
-    private final GameEventType type;
-    private final Map<String, Object> data;
+public sealed interface GameEvent {
 
     /**
-     * Costruisce un nuovo evento di gioco.
-     * 
+     * Restituisce il tipo di evento.
+     *
+     * @return Il tipo di evento
+     */
+    GameEventType getType();
+
+    /**
+     * Evento senza dati associati (ad esempio inizio partita o assicurazione offerta).
+     *
      * @param type Il tipo di evento
-     * @param data I dati associati all'evento (può essere null)
      */
-    private GameEvent(GameEventType type, Map<String, Object> data) {
-        this.type = type;
-        this.data = data != null ? data : new HashMap<>();
+    record Signal(GameEventType type) implements GameEvent {
+        private static final Signal[] CACHE = new Signal[GameEventType.values().length];
+
+        static {
+            for (GameEventType type : GameEventType.values())
+                CACHE[type.ordinal()] = new Signal(type);
+        }
+
+        /**
+         * Restituisce l'istanza condivisa del segnale per il tipo indicato.
+         *
+         * @param type Il tipo di evento
+         * @return Il segnale, sempre la stessa istanza per lo stesso tipo
+         */
+        public static Signal of(GameEventType type) {
+            return CACHE[type.ordinal()];
+        }
+
+        @Override
+        public GameEventType getType() {
+            return type;
+        }
     }
 
     /**
-     * Restituisce il tipo di evento.
-     * 
-     * @return Il tipo di evento
+     * Il sabot è stato rimescolato prima del round.
+     *
+     * @param deckCount Numero di mazzi nel sabot
+     * @param cardCount Numero di carte disponibili dopo il mescolamento
      */
-    public GameEventType getType() {
-        return type;
+    record ShoeShuffled(int deckCount, int cardCount) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.SHOE_SHUFFLED;
+        }
     }
 
     /**
-     * Restituisce i dati associati all'evento.
-     * 
-     * @return Una mappa contenente i dati dell'evento
+     * Inizia un nuovo round, dopo l'eventuale rimescolamento del sabot.
+     *
+     * @param shoePosition Carte già distribuite dal sabot dall'ultimo mescolamento
+     * @param remaining Carte ancora da distribuire
      */
-    public Map<String, Object> getData() {
-        return data;
+    record RoundStarted(int shoePosition, int remaining) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.ROUND_STARTED;
+        }
     }
 
     /**
-     * Metodo factory per creare eventi con coppie chiave-valore.
-     * Facilita la creazione di eventi con dati multipli.
-     * 
-     * @param type Il tipo di evento
-     * @param keyValuePairs Coppie alternanti di chiavi (String) e valori (Object)
-     * @return Un nuovo GameEvent con i dati specificati
-     * @throws IllegalArgumentException Se il numero di parametri non è pari
+     * Un giocatore ha piazzato la propria puntata.
+     *
+     * @param player Il giocatore che ha puntato
+     * @param amount Importo della puntata
+     * @param handIndex Indice della mano su cui è stata piazzata
+     * @param seatIndex Posizione del giocatore tra i giocatori AI, -1 per il giocatore umano
+     * @param balance Saldo del giocatore dopo la puntata
      */
-    public static GameEvent create(GameEventType type, Object... keyValuePairs) {
-        if (keyValuePairs.length % 2 != 0)
-            throw new IllegalArgumentException("Devi fornire coppie chiave-valore");
+    record BetPlaced(Player player, int amount, int handIndex, int seatIndex, int balance) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.BET_PLACED;
+        }
+    }
 
-        Map<String, Object> data = new HashMap<>();
-        for (int i = 0; i < keyValuePairs.length; i += 2)
-            data.put((String) keyValuePairs[i], keyValuePairs[i + 1]);
+    /**
+     * Una carta è stata distribuita a un giocatore o al dealer.
+     *
+     * @param player Il giocatore che ha ricevuto la carta
+     * @param handIndex Indice della mano
+     * @param card La carta distribuita
+     * @param hidden true se la carta è coperta
+     * @param handValue Valore della mano dopo la carta
+     */
+    record CardDealt(Player player, int handIndex, Card card, boolean hidden, int handValue) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.CARD_DEALT;
+        }
+    }
+
+    /**
+     * Un giocatore ha ottenuto blackjack.
+     *
+     * @param player Il giocatore
+     * @param handIndex Indice della mano
+     */
+    record BlackjackAchieved(Player player, int handIndex) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.BLACKJACK_ACHIEVED;
+        }
+    }
 
-        return new GameEvent(type, data);
+    /**
+     * Un giocatore ha sballato.
+     *
+     * @param player Il giocatore
+     * @param handIndex Indice della mano
+     */
+    record PlayerBusted(Player player, int handIndex) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.PLAYER_BUSTED;
+        }
+    }
+
+    /**
+     * Un giocatore si è fermato.
+     *
+     * @param player Il giocatore
+     * @param handIndex Indice della mano
+     */
+    record PlayerStand(Player player, int handIndex) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.PLAYER_STAND;
+        }
+    }
+
+    /**
+     * Un giocatore ha raddoppiato la puntata.
+     *
+     * @param player Il giocatore
+     * @param handIndex Indice della mano raddoppiata
+     * @param newBet Puntata della mano dopo il raddoppio
+     * @param currentBet Puntata complessiva del giocatore
+     * @param balance Saldo del giocatore dopo il raddoppio
+     * @param handValue Valore della mano dopo la carta del raddoppio
+     */
+    record DoubleDown(Player player, int handIndex, int newBet, int currentBet, int balance, int handValue) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.DOUBLE_DOWN_EXECUTED;
+        }
+    }
+
+    /**
+     * Un giocatore ha diviso la mano.
+     *
+     * @param player Il giocatore
+     * @param handIndex Indice della mano divisa
+     * @param newCard1 Nuova carta della mano originale
+     * @param newCard2 Nuova carta della nuova mano, aggiunta in coda alle mani del giocatore
+     * @param handValue1 Valore della mano originale dopo lo split
+     * @param handValue2 Valore della nuova mano dopo lo split
+     * @param bet Puntata di ciascuna mano
+     * @param currentBet Puntata complessiva del giocatore
+     * @param balance Saldo del giocatore dopo lo split
+     */
+    record HandSplit(Player player, int handIndex, Card newCard1, Card newCard2, int handValue1, int handValue2,
+                     int bet, int currentBet, int balance) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.HAND_SPLIT;
+        }
+    }
+
+    /**
+     * Un giocatore ha accettato l'assicurazione.
+     *
+     * @param player Il giocatore
+     * @param amount Importo dell'assicurazione
+     * @param balance Saldo del giocatore dopo l'assicurazione
+     * @param handIndex Indice della mano assicurata
+     */
+    record InsuranceAccepted(Player player, int amount, int balance, int handIndex) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.INSURANCE_ACCEPTED;
+        }
+    }
+
+    /**
+     * Inizia il turno del dealer, che scopre la carta coperta.
+     *
+     * @param hiddenCard La carta coperta appena rivelata
+     * @param handValue Valore della mano del dealer con la carta rivelata
+     */
+    record DealerTurnStarted(Card hiddenCard, int handValue) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.DEALER_TURN_STARTED;
+        }
+    }
+
+    /**
+     * Le mani e l'assicurazione di un giocatore sono state liquidate a fine round.
+     *
+     * @param player Il giocatore
+     * @param amount Importo accreditato dalla liquidazione (puntate restituite e vincite), 0 se ha perso tutto
+     * @param balance Saldo del giocatore dopo la liquidazione
+     */
+    record WinningsPaid(Player player, int amount, int balance) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.WINNINGS_PAID;
+        }
+    }
+
+    /**
+     * Il round è terminato e le mani del giocatore umano sono state liquidate.
+     *
+     * @param finalBalance Saldo finale del giocatore umano
+     * @param wonHands Mani vinte
+     * @param lostHands Mani perse
+     * @param totalHands Mani giocate
+     */
+    record RoundEnded(int finalBalance, int wonHands, int lostHands, int totalHands) implements GameEvent {
+        @Override
+        public GameEventType getType() {
+            return GameEventType.ROUND_ENDED;
+        }
     }
 }
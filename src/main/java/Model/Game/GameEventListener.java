@@ -0,0 +1,21 @@
+package Model.Game;
+
+/**
+ * Interfaccia per gli ascoltatori degli eventi di gioco.
+ * Un ascoltatore viene registrato per uno specifico {@link GameEventType}
+ * e riceve solo gli eventi di quel tipo.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Riceve un evento di gioco del tipo per cui l'ascoltatore è registrato.
+     *
+     * @param event L'evento di gioco
+     */
+    void onEvent(GameEvent event);
+}
@@ -13,6 +13,7 @@ public enum GameEventType {
     ROUND_STARTED,
     ROUND_ENDED,
     GAME_STATE_CHANGED,
+    SHOE_SHUFFLED,
 
     CARD_DEALT,
     HAND_UPDATED,
@@ -3,6 +3,7 @@ package Model.Game;
 import Model.Game.Objects.Deck;
 import Model.Players.StrategyPlay.AggressiveStrategy;
 import Model.Players.StrategyPlay.BalancedStrategy;
+import Model.Players.StrategyPlay.BasicStrategy;
 import Model.Players.StrategyPlay.ConservativeStrategy;
 import Model.Players.Dealer;
 import Model.Players.Player;
@@ -32,13 +33,25 @@ public class GameModel {
      * @param numOfPlayers Numero di giocatori AI
      */
     public GameModel(String playerName, int initialBalance, int numOfPlayers) {
+        this(playerName, initialBalance, numOfPlayers, new DispatchingEventBus());
+    }
+
+    /**
+     * Costruttore che inizializza il modello di gioco con un bus degli eventi specifico.
+     *
+     * @param playerName Nome del giocatore umano
+     * @param initialBalance Saldo iniziale del giocatore
+     * @param numOfPlayers Numero di giocatori AI
+     * @param eventBus Bus su cui pubblicare gli eventi di gioco ({@link EventBus#NO_OP} per le partite senza interfaccia)
+     */
+    public GameModel(String playerName, int initialBalance, int numOfPlayers, EventBus eventBus) {
         this.deck = new Deck();
         this.humanPlayer = PlayerFactory.createHumanPlayer(playerName, initialBalance);
         this.players = new ArrayList<>();
         this.dealer = PlayerFactory.createDealer();
         this.random = new Random();
         createAIPlayers(numOfPlayers);
-        this.turnManager = new TurnManager(humanPlayer, players, dealer, deck);
+        this.turnManager = new TurnManager(humanPlayer, players, dealer, deck, eventBus);
     }
 
     /**
@@ -59,11 +72,12 @@ public class GameModel {
      * @return Una strategia casuale
      */
     private PlayerStrategy getRandomStrategy() {
-        int choice = random.nextInt(3);
+        int choice = random.nextInt(4);
         switch (choice) {
             case 0: return new AggressiveStrategy();
             case 1: return new ConservativeStrategy();
             case 2: return new BalancedStrategy();
+            case 3: return new BasicStrategy();
             default: return new BalancedStrategy();
         }
     }
@@ -0,0 +1,223 @@
+package Model.Game;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Tavolo ospitato da un {@link TableHost}.
+ * Il modello di gioco del tavolo è confinato: tutte le azioni vengono eseguite una alla volta,
+ * nell'ordine di invio, sull'executor condiviso dell'host, quindi il {@link GameModel}
+ * e i suoi ascoltatori non richiedono sincronizzazione. Tavoli diversi procedono in parallelo.
+ * La coda delle azioni in attesa è limitata, così che la memoria occupata da ogni tavolo resti limitata.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class HostedTable {
+    private final int id;
+    private final GameModel model;
+    private final Executor executor;
+    private final int maxPendingActions;
+    private final Queue<Action> pending;
+    private boolean running;
+    private boolean closed;
+
+    /**
+     * Costruisce un tavolo ospitato.
+     *
+     * @param id Identificativo del tavolo nell'host
+     * @param model Il modello di gioco confinato nel tavolo
+     * @param executor L'executor condiviso su cui eseguire le azioni
+     * @param maxPendingActions Numero massimo di azioni in attesa
+     */
+    HostedTable(int id, GameModel model, Executor executor, int maxPendingActions) {
+        this.id = id;
+        this.model = model;
+        this.executor = executor;
+        this.maxPendingActions = maxPendingActions;
+        this.pending = new ArrayDeque<>();
+        this.running = false;
+        this.closed = false;
+    }
+
+    /**
+     * Invia un'azione da eseguire sul modello del tavolo e ne restituisce il risultato.
+     *
+     * @param action L'azione da eseguire sul modello
+     * @param <T> Il tipo del risultato
+     * @return Un future completato con il risultato dell'azione, o eccezionalmente se l'azione fallisce
+     * @throws RejectedExecutionException Se il tavolo è chiuso o la coda delle azioni è piena
+     */
+    public <T> CompletableFuture<T> submit(Function<GameModel, T> action) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        enqueue(new Action(() -> {
+            try {
+                future.complete(action.apply(model));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, future));
+        return future;
+    }
+
+    /**
+     * Invia un'azione senza risultato da eseguire sul modello del tavolo.
+     *
+     * @param action L'azione da eseguire sul modello
+     * @return Un future completato al termine dell'azione
+     * @throws RejectedExecutionException Se il tavolo è chiuso o la coda delle azioni è piena
+     */
+    public CompletableFuture<Void> execute(Consumer<GameModel> action) {
+        return submit(model -> {
+            action.accept(model);
+            return null;
+        });
+    }
+
+    /**
+     * Restituisce l'identificativo del tavolo.
+     *
+     * @return Identificativo del tavolo
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Restituisce il bus degli eventi del tavolo, su cui registrare gli ascoltatori.
+     * Gli eventi sincroni vengono consegnati sul thread che esegue l'azione del tavolo.
+     *
+     * @return Il bus degli eventi del tavolo
+     */
+    public EventBus getEventBus() {
+        return model.getTurnManager().getEventBus();
+    }
+
+    /**
+     * Restituisce il numero di azioni in attesa di esecuzione.
+     *
+     * @return Azioni in coda
+     */
+    public synchronized int getPendingActions() {
+        return pending.size();
+    }
+
+    /**
+     * Chiude il tavolo: le azioni già in coda vengono completate, le nuove vengono rifiutate.
+     */
+    synchronized void close() {
+        closed = true;
+    }
+
+    /**
+     * Attende che il tavolo abbia eseguito tutte le azioni in coda.
+     *
+     * @param deadlineNanos Istante limite dell'attesa, nella scala di {@link System#nanoTime()}
+     * @return true se il tavolo è inattivo, false se l'istante limite è stato raggiunto
+     * @throws InterruptedException Se il thread viene interrotto durante l'attesa
+     */
+    synchronized boolean awaitIdle(long deadlineNanos) throws InterruptedException {
+        while (running) {
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0)
+                return false;
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Azione in coda e future da far fallire se l'azione non può più essere eseguita.
+     *
+     * @param task Il corpo dell'azione
+     * @param future Il future restituito a chi ha inviato l'azione
+     */
+    private record Action(Runnable task, CompletableFuture<?> future) {
+    }
+
+    /**
+     * Accoda un'azione e avvia l'esecuzione se il tavolo è inattivo.
+     * Se l'executor rifiuta l'esecuzione l'azione viene rimossa e il tavolo torna inattivo.
+     *
+     * @param action L'azione da accodare
+     * @throws RejectedExecutionException Se il tavolo è chiuso, la coda è piena o l'executor rifiuta l'azione
+     */
+    private synchronized void enqueue(Action action) {
+        if (closed)
+            throw new RejectedExecutionException("Il tavolo " + id + " è chiuso");
+        if (pending.size() >= maxPendingActions)
+            throw new RejectedExecutionException("Troppe azioni in attesa sul tavolo " + id);
+
+        pending.add(action);
+        if (!running) {
+            running = true;
+            try {
+                executor.execute(this::runNext);
+            } catch (RejectedExecutionException e) {
+                failPending(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Esegue la prossima azione in coda e pianifica la successiva,
+     * restituendo il thread all'executor tra un'azione e l'altra.
+     */
+    private void runNext() {
+        Action action;
+        synchronized (this) {
+            action = pending.poll();
+            if (action == null) {
+                becomeIdle();
+                return;
+            }
+        }
+
+        try {
+            action.task().run();
+        } finally {
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    becomeIdle();
+                } else {
+                    try {
+                        executor.execute(this::runNext);
+                    } catch (RejectedExecutionException e) {
+                        failPending(e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fa fallire le azioni in coda che l'executor non può più eseguire, ad esempio dopo l'arresto
+     * dell'host, e riporta il tavolo allo stato inattivo così che gli invii successivi riprovino.
+     * Va chiamato tenendo il lock del tavolo.
+     *
+     * @param cause Il rifiuto dell'executor
+     */
+    private void failPending(RejectedExecutionException cause) {
+        Action action;
+        while ((action = pending.poll()) != null)
+            action.future().completeExceptionally(cause);
+        becomeIdle();
+    }
+
+    /**
+     * Segna il tavolo come inattivo e risveglia chi attende lo svuotamento della coda.
+     * Va chiamato tenendo il lock del tavolo.
+     */
+    private void becomeIdle() {
+        running = false;
+        notifyAll();
+    }
+}
@@ -0,0 +1,33 @@
+package Model.Game;
+
+/**
+ * Bus degli eventi che scarta ogni evento e non conserva ascoltatori.
+ * Usato tramite {@link EventBus#NO_OP}.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class NoOpEventBus implements EventBus {
+
+    @Override
+    public void subscribe(GameEventType type, GameEventListener listener) {
+    }
+
+    @Override
+    public void unsubscribe(GameEventType type, GameEventListener listener) {
+    }
+
+    @Override
+    public boolean hasSubscribers(GameEventType type) {
+        return false;
+    }
+
+    @Override
+    public void publish(GameEvent event) {
+    }
+
+    @Override
+    public void flush() {
+    }
+}
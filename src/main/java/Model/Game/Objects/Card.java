@@ -3,24 +3,81 @@ package Model.Game.Objects;
 /**
  * Rappresenta una carta da gioco nel BlackJack.
  * Ogni carta ha un rango (Asso, 2-10, Jack, Queen, King) e un seme (Cuori, Quadri, Fiori, Picche).
+ * <p>
+ * Esiste un'unica istanza per ogni combinazione di rango e seme: le carte si ottengono
+ * con {@link #of(Rank, Suit)} o {@link #ofOrdinal(int)} da una tabella di 52 elementi
+ * indicizzata dall'ordinale compatto (seme * 13 + rango). Nome e chiave dell'immagine
+ * sono calcolati una sola volta alla creazione della tabella.
  * 
  * @author JBlackJack Team
  * @version 1.0
  * @since 1.0
  */
 public class Card {
+    /** Numero di carte distinte in un mazzo standard. */
+    public static final int COUNT = Rank.values().length * Suit.values().length;
+
+    private static final int RANK_COUNT = Rank.values().length;
+
+    private static final Card[] CARDS = createCardTable();
+
     private final Rank rank;
     private final Suit suit;
+    private final int ordinal;
+    private final String name;
+    private final String imageKey;
 
     /**
      * Costruisce una nuova carta con il rango e seme specificati.
+     * Usato solo per popolare la tabella delle carte condivise.
      * 
      * @param rank Il rango della carta
      * @param suit Il seme della carta
      */
-    public Card(Rank rank, Suit suit) {
+    private Card(Rank rank, Suit suit) {
         this.rank = rank;
         this.suit = suit;
+        this.ordinal = suit.ordinal() * RANK_COUNT + rank.ordinal();
+        this.name = rank + "_of_" + suit;
+        this.imageKey = name.toLowerCase();
+    }
+
+    /**
+     * Crea la tabella delle carte condivise, indicizzata per ordinale.
+     *
+     * @return La tabella delle 52 carte
+     */
+    private static Card[] createCardTable() {
+        Card[] table = new Card[COUNT];
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = new Card(rank, suit);
+                table[card.ordinal] = card;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Restituisce l'istanza condivisa della carta con il rango e seme specificati.
+     *
+     * @param rank Il rango della carta
+     * @param suit Il seme della carta
+     * @return La carta corrispondente
+     */
+    public static Card of(Rank rank, Suit suit) {
+        return CARDS[suit.ordinal() * RANK_COUNT + rank.ordinal()];
+    }
+
+    /**
+     * Restituisce l'istanza condivisa della carta con l'ordinale specificato.
+     *
+     * @param ordinal L'ordinale compatto della carta (da 0 a 51)
+     * @return La carta corrispondente
+     * @throws ArrayIndexOutOfBoundsException Se l'ordinale non è valido
+     */
+    public static Card ofOrdinal(int ordinal) {
+        return CARDS[ordinal];
     }
 
     /**
@@ -59,6 +116,24 @@ public class Card {
         return rank.isAce();
     }
 
+    /**
+     * Restituisce l'ordinale compatto della carta (seme * 13 + rango).
+     *
+     * @return L'ordinale della carta, da 0 a 51
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Restituisce la chiave dell'immagine della carta, usata per il nome del file PNG.
+     *
+     * @return Una stringa nel formato "rank_of_suit" in minuscolo
+     */
+    public String getImageKey() {
+        return imageKey;
+    }
+
     /**
      * Restituisce una rappresentazione stringa della carta.
      * 
@@ -66,6 +141,6 @@ public class Card {
      */
     @Override
     public String toString() {
-        return rank + "_of_" + suit;
+        return name;
     }
 }
@@ -1,63 +1,158 @@
 package Model.Game.Objects;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
- * Rappresenta un mazzo di carte per il gioco di BlackJack.
- * Il mazzo è composto da due mazzi standard da 52 carte (104 carte totali).
- * Gestisce la creazione, mescolamento e distribuzione delle carte.
- * 
+ * Rappresenta il sabot (shoe) di carte per il gioco di BlackJack.
+ * Il sabot è composto da un numero configurabile di mazzi standard da 52 carte (da 1 a 8)
+ * e contiene una carta di taglio: quando la distribuzione la supera, il sabot va rimescolato
+ * prima del round successivo, come ai tavoli reali. Gestisce la creazione, mescolamento
+ * e distribuzione delle carte.
+ * <p>
+ * Le carte sono memorizzate come ordinali in un array di byte con un cursore
+ * che indica la prossima carta da pescare: pescare non rimuove elementi né alloca oggetti,
+ * e il mescolamento è un Fisher-Yates sul posto. Le carte restituite sono le istanze
+ * condivise di {@link Card#ofOrdinal(int)}.
+ *
  * @author JBlackJack Team
  * @version 1.0
  * @since 1.0
  */
 public class Deck {
-    private final List<Card> cards;
+    /** Numero di mazzi usato dal costruttore di default. */
+    public static final int DEFAULT_DECK_COUNT = 2;
+    /** Penetrazione usata dal costruttore di default: frazione del sabot distribuita prima della carta di taglio. */
+    public static final double DEFAULT_PENETRATION = 0.75;
+    /** Numero minimo di mazzi nel sabot. */
+    public static final int MIN_DECK_COUNT = 1;
+    /** Numero massimo di mazzi nel sabot. */
+    public static final int MAX_DECK_COUNT = 8;
+
+    private final byte[] cards;
+    private final RandomGenerator random;
+    private final int deckCount;
+    private final int cutCard;
+    private int position;
 
     /**
-     * Costruisce un nuovo mazzo completo e lo mescola.
-     * Il mazzo contiene due set completi di 52 carte ciascuno.
+     * Costruisce un nuovo sabot di due mazzi con la penetrazione di default e lo mescola.
      */
     public Deck() {
-        cards = new ArrayList<>();
+        this(new Random());
+    }
+
+    /**
+     * Costruisce un nuovo sabot di default mescolato con il generatore specificato.
+     * Utile per le simulazioni, dove un seme fisso rende riproducibile la sequenza delle carte
+     * e un generatore non sincronizzato come {@link java.util.SplittableRandom} riduce il costo del mescolamento.
+     *
+     * @param random Il generatore di numeri casuali usato per mescolare
+     */
+    public Deck(RandomGenerator random) {
+        this(DEFAULT_DECK_COUNT, DEFAULT_PENETRATION, random);
+    }
+
+    /**
+     * Costruisce un nuovo sabot con il numero di mazzi e la penetrazione specificati e lo mescola.
+     *
+     * @param deckCount Numero di mazzi da 52 carte (da 1 a 8)
+     * @param penetration Frazione del sabot distribuita prima della carta di taglio (maggiore di 0, al massimo 1)
+     * @param random Il generatore di numeri casuali usato per mescolare
+     * @throws IllegalArgumentException Se il numero di mazzi o la penetrazione non sono validi
+     */
+    public Deck(int deckCount, double penetration, RandomGenerator random) {
+        if (deckCount < MIN_DECK_COUNT || deckCount > MAX_DECK_COUNT)
+            throw new IllegalArgumentException("Il numero di mazzi deve essere compreso tra " + MIN_DECK_COUNT + " e " + MAX_DECK_COUNT);
+        if (!(penetration > 0 && penetration <= 1))
+            throw new IllegalArgumentException("La penetrazione deve essere compresa tra 0 (escluso) e 1");
+
+        this.cards = new byte[deckCount * Card.COUNT];
+        this.random = random;
+        this.deckCount = deckCount;
+        this.cutCard = (int) Math.round(cards.length * penetration);
         createDeck();
         shuffle();
     }
 
     /**
-     * Crea un mazzo completo con tutte le combinazioni di ranghi e semi.
-     * Vengono creati due mazzi standard per un totale di 104 carte.
+     * Riempie il sabot con tutte le combinazioni di ranghi e semi, una volta per ogni mazzo.
      */
     private void createDeck() {
-        for (int i = 0; i < 2; i++) {
-            for (Suit suit : Suit.values()) {
-                for (Rank rank : Rank.values()) {
-                    cards.add(new Card(rank, suit));
-                }
-            }
-        }
+        for (int i = 0; i < cards.length; i++)
+            cards[i] = (byte) (i % Card.COUNT);
     }
 
     /**
-     * Mescola le carte nel mazzo in ordine casuale.
+     * Rimette nel sabot tutte le carte distribuite e rimescola l'intero sabot.
+     * La carta di taglio torna nella sua posizione iniziale.
      */
     public void shuffle() {
-        Collections.shuffle(cards);
+        position = 0;
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte tmp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = tmp;
+        }
+    }
+
+    /**
+     * Verifica se la distribuzione ha raggiunto la carta di taglio.
+     * Va controllato tra un round e l'altro: il sabot non viene mai rimescolato a metà round,
+     * salvo che si esaurisca del tutto.
+     *
+     * @return true se il sabot va rimescolato prima del prossimo round, false altrimenti
+     */
+    public boolean needsShuffle() {
+        return position >= cutCard;
     }
 
     /**
-     * Pesca una carta dal mazzo.
-     * Se il mazzo è vuoto, viene ricreato automaticamente un nuovo mazzo.
-     * 
-     * @return La carta pescata dalla cima del mazzo
+     * Pesca una carta dal sabot.
+     * Se il sabot è vuoto, tutte le carte vengono rimesse nel sabot e rimescolate.
+     *
+     * @return La carta pescata dalla cima del sabot
      */
     public Card drawCard() {
-        if (cards.isEmpty()){
-            createDeck();
-            return cards.remove(0);
-        }
-        return cards.remove(0);
+        if (position == cards.length)
+            shuffle();
+        return Card.ofOrdinal(cards[position++]);
+    }
+
+    /**
+     * Restituisce il numero di carte ancora da pescare.
+     *
+     * @return Numero di carte rimanenti nel sabot
+     */
+    public int remaining() {
+        return cards.length - position;
+    }
+
+    /**
+     * Restituisce il numero di carte già distribuite dall'ultimo mescolamento.
+     *
+     * @return Posizione corrente nel sabot
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Restituisce il numero di mazzi che compongono il sabot.
+     *
+     * @return Numero di mazzi
+     */
+    public int getDeckCount() {
+        return deckCount;
+    }
+
+    /**
+     * Restituisce la posizione della carta di taglio.
+     *
+     * @return Numero di carte distribuite oltre il quale il sabot va rimescolato
+     */
+    public int getCutCard() {
+        return cutCard;
     }
 }
@@ -1,14 +1,21 @@
 package Model.Game.Objects;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Rappresenta una mano di carte nel gioco di BlackJack.
  * Questa classe gestisce tutte le operazioni e lo stato di una singola mano.
+ * Il totale "hard" (assi contati come 1) e il numero di assi vengono aggiornati
+ * a ogni carta aggiunta o rimossa, così che valore, sballo e blackjack
+ * si calcolino in tempo costante senza riscorrere le carte.
  */
 public class Hand {
-    private List<Card> cards;
+    private final List<Card> cards;
+    private final List<Card> cardsView;
+    private int hardTotal;
+    private int aceCount;
     private int bet;
     private boolean doubledDown;
     private boolean insurance;
@@ -18,6 +25,9 @@ public class Hand {
      */
     public Hand() {
         this.cards = new ArrayList<>();
+        this.cardsView = Collections.unmodifiableList(cards);
+        this.hardTotal = 0;
+        this.aceCount = 0;
         this.bet = 0;
         this.doubledDown = false;
         this.insurance = false;
@@ -40,41 +50,61 @@ public class Hand {
      */
     public void addCard(Card card) {
         cards.add(card);
+        if (card.isAce()) {
+            hardTotal += 1;
+            aceCount++;
+        } else {
+            hardTotal += card.getValue();
+        }
     }
 
     /**
      * Restituisce tutte le carte nella mano.
+     * La lista è una vista in sola lettura: le carte si aggiungono con {@link #addCard(Card)}.
      *
      * @return Lista delle carte
      */
     public List<Card> getCards() {
-        return cards;
+        return cardsView;
     }
 
     /**
      * Calcola il valore corrente della mano secondo le regole del BlackJack.
      * Gli assi valgono 11 punti, ma possono essere contati come 1 punto se
-     * il totale supera 21.
+     * il totale supera 21. Al più un asso può valere 11 senza sballare,
+     * quindi il valore si ricava direttamente dal totale hard.
      *
      * @return Il valore della mano
      */
     public int getValue() {
-        int total = 0;
-        int aceCount = 0;
+        return isSoft() ? hardTotal + 10 : hardTotal;
+    }
 
-        for (Card card : cards) {
-            total += card.getValue();
-            if (card.isAce()) {
-                aceCount++;
-            }
-        }
+    /**
+     * Restituisce il totale "hard" della mano, con tutti gli assi contati come 1.
+     *
+     * @return Il totale hard della mano
+     */
+    public int getHardValue() {
+        return hardTotal;
+    }
 
-        while (total > 21 && aceCount > 0) {
-            total -= 10;
-            aceCount--;
-        }
+    /**
+     * Verifica se la mano è "soft", cioè se contiene un asso che vale 11 senza sballare.
+     *
+     * @return true se la mano è soft, false altrimenti
+     */
+    public boolean isSoft() {
+        return aceCount > 0 && hardTotal + 10 <= 21;
+    }
 
-        return total;
+    /**
+     * Restituisce il numero di assi nella mano.
+     *
+     * @return Numero di assi
+     */
+    public int getAceCount() {
+        return aceCount;
     }
 
     /**
@@ -113,7 +143,14 @@ public class Hand {
      */
     public Card splitSecondCard() {
         if (canSplit()) {
-            return cards.remove(1);
+            Card card = cards.remove(1);
+            if (card.isAce()) {
+                hardTotal -= 1;
+                aceCount--;
+            } else {
+                hardTotal -= card.getValue();
+            }
+            return card;
         }
         return null;
     }
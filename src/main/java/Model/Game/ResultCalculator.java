@@ -98,8 +98,9 @@ public class ResultCalculator {
      * @param handIndex Indice della mano
      * @param dealerValue Valore della mano del dealer
      * @param dealerBusted Flag che indica se il dealer ha sballato
+     * @return "win", "loss" oppure "push" a seconda dell'esito della mano
      */
-    private String processHandOutcome(Player player, int handIndex, int dealerValue, boolean dealerBusted) {
+    public String processHandOutcome(Player player, int handIndex, int dealerValue, boolean dealerBusted) {
         int handValue = player.getHandValue(handIndex);
         boolean handBusted = player.isBusted(handIndex);
         boolean handBlackjack = player.hasBlackjack(handIndex);
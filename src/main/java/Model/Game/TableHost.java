@@ -0,0 +1,159 @@
+package Model.Game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Host di molti tavoli di BlackJack indipendenti nella stessa JVM.
+ * Ogni tavolo ha il proprio {@link GameModel}, con mazzo, giocatori, generatori e bus degli eventi propri,
+ * ed è confinato in un {@link HostedTable} che esegue le sue azioni in sequenza su un executor condiviso.
+ * Il modello non usa stato statico mutabile, quindi i tavoli non condividono nulla
+ * tranne l'executor e le tabelle immutabili (carte, strategia base).
+ * I singleton dell'interfaccia (GameManager, AudioManager, CardImageService) non vengono usati.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class TableHost implements AutoCloseable {
+    /** Numero massimo di azioni in attesa per tavolo usato dal costruttore di default. */
+    public static final int DEFAULT_MAX_PENDING_ACTIONS = 64;
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int maxPendingActions;
+    private final Map<Integer, HostedTable> tables;
+    private final AtomicInteger nextId;
+
+    /**
+     * Costruisce un host con un pool di thread pari ai core disponibili.
+     */
+    public TableHost() {
+        this(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()), true, DEFAULT_MAX_PENDING_ACTIONS);
+    }
+
+    /**
+     * Costruisce un host che esegue i tavoli sull'executor indicato, ad esempio un executor
+     * a thread virtuali. L'executor resta di proprietà del chiamante e non viene chiuso dall'host.
+     *
+     * @param executor L'executor condiviso dai tavoli
+     * @param maxPendingActions Numero massimo di azioni in attesa per tavolo
+     * @throws IllegalArgumentException Se l'executor è null o il limite non è positivo
+     */
+    public TableHost(ExecutorService executor, int maxPendingActions) {
+        this(executor, false, maxPendingActions);
+    }
+
+    private TableHost(ExecutorService executor, boolean ownsExecutor, int maxPendingActions) {
+        if (executor == null)
+            throw new IllegalArgumentException("L'executor non può essere null");
+        if (maxPendingActions <= 0)
+            throw new IllegalArgumentException("Il numero massimo di azioni in attesa deve essere positivo");
+
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.maxPendingActions = maxPendingActions;
+        this.tables = new ConcurrentHashMap<>();
+        this.nextId = new AtomicInteger(1);
+    }
+
+    /**
+     * Apre un nuovo tavolo con un proprio modello di gioco.
+     *
+     * @param playerName Nome del giocatore umano del tavolo
+     * @param initialBalance Saldo iniziale del giocatore
+     * @param aiPlayers Numero di giocatori AI
+     * @param eventBus Bus degli eventi del tavolo ({@link EventBus#NO_OP} per i tavoli senza ascoltatori)
+     * @return Il tavolo aperto
+     */
+    public HostedTable openTable(String playerName, int initialBalance, int aiPlayers, EventBus eventBus) {
+        int id = nextId.getAndIncrement();
+        HostedTable table = new HostedTable(id, new GameModel(playerName, initialBalance, aiPlayers, eventBus),
+                executor, maxPendingActions);
+        tables.put(id, table);
+        return table;
+    }
+
+    /**
+     * Restituisce il tavolo con l'identificativo indicato.
+     *
+     * @param id Identificativo del tavolo
+     * @return Il tavolo, o null se non esiste o è stato chiuso
+     */
+    public HostedTable getTable(int id) {
+        return tables.get(id);
+    }
+
+    /**
+     * Chiude un tavolo: le azioni già in coda vengono completate, le nuove vengono rifiutate.
+     *
+     * @param id Identificativo del tavolo
+     * @return true se il tavolo esisteva, false altrimenti
+     */
+    public boolean closeTable(int id) {
+        HostedTable table = tables.remove(id);
+        if (table == null)
+            return false;
+
+        table.close();
+        return true;
+    }
+
+    /**
+     * Restituisce i tavoli aperti.
+     *
+     * @return Vista non modificabile dei tavoli aperti
+     */
+    public Collection<HostedTable> getTables() {
+        return Collections.unmodifiableCollection(tables.values());
+    }
+
+    /**
+     * Restituisce il numero di tavoli aperti.
+     *
+     * @return Numero di tavoli
+     */
+    public int getTableCount() {
+        return tables.size();
+    }
+
+    /**
+     * Chiude tutti i tavoli e, se l'executor è stato creato dall'host,
+     * attende il completamento delle azioni in coda e lo arresta.
+     * L'executor viene arrestato solo dopo che le code dei tavoli si sono svuotate,
+     * perché ogni tavolo vi pianifica un'azione alla volta.
+     */
+    @Override
+    public void close() {
+        List<HostedTable> closing = new ArrayList<>();
+        for (Integer id : tables.keySet()) {
+            HostedTable table = tables.remove(id);
+            if (table != null) {
+                table.close();
+                closing.add(table);
+            }
+        }
+
+        if (ownsExecutor) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CLOSE_TIMEOUT_SECONDS);
+            try {
+                for (HostedTable table : closing)
+                    table.awaitIdle(deadline);
+                executor.shutdown();
+                executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                executor.shutdown();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package Model.Game;
 
 import Model.Game.Objects.Card;
 import Model.Game.Objects.Deck;
+import Model.Game.Objects.Hand;
 import Model.Game.Objects.Rank;
 import Model.Game.Objects.Suit;
 import Model.Players.AIPlayer;
@@ -10,14 +11,16 @@ import Model.Players.Player;
 import Model.Players.StrategyPlay.AggressiveStrategy;
 import Model.Players.StrategyPlay.ConservativeStrategy;
 import Model.Players.StrategyPlay.PlayerStrategy;
+import Model.Players.StrategyPlay.StrategyAction;
 import java.util.*;
 import java.util.stream.IntStream;
 
 /**
  * Gestisce il flusso di gioco e i turni nel BlackJack.
- * Estende Observable per notificare gli osservatori dei cambiamenti di stato.
+ * Pubblica i cambiamenti di stato come {@link GameEvent} tipizzati su un {@link EventBus},
+ * presso il quale gli ascoltatori si registrano per tipo di evento.
  */
-public class TurnManager extends Observable {
+public class TurnManager {
     private GameState gameState;
     private int currentHandIndex;
     private Player humanPlayer;
@@ -28,6 +31,7 @@ public class TurnManager extends Observable {
     private boolean insurancePaid;
     private BankManager bankManager;
     private Random random;
+    private final EventBus eventBus;
 
     /**
      * Costruttore che inizializza il gestore dei turni.
@@ -38,6 +42,19 @@ public class TurnManager extends Observable {
      * @param deck Mazzo di carte
      */
     public TurnManager(Player humanPlayer, List<Player> players, Dealer dealer, Deck deck) {
+        this(humanPlayer, players, dealer, deck, new DispatchingEventBus());
+    }
+
+    /**
+     * Costruttore che inizializza il gestore dei turni con un bus degli eventi specifico.
+     *
+     * @param humanPlayer Giocatore umano
+     * @param players Lista di tutti i giocatori AI
+     * @param dealer Dealer
+     * @param deck Mazzo di carte
+     * @param eventBus Bus su cui pubblicare gli eventi di gioco ({@link EventBus#NO_OP} per le partite senza interfaccia)
+     */
+    public TurnManager(Player humanPlayer, List<Player> players, Dealer dealer, Deck deck, EventBus eventBus) {
         this.humanPlayer = humanPlayer;
         this.players = players;
         this.dealer = dealer;
@@ -48,25 +65,29 @@ public class TurnManager extends Observable {
         this.bankManager = new BankManager();
         this.resultCalculator = new ResultCalculator(bankManager);
         random = new Random();
+        this.eventBus = eventBus;
     }
 
     /**
      * Distribuisce le carte iniziali e avvia il gioco.
+     * Il sabot viene rimescolato solo se la distribuzione ha superato la carta di taglio.
      */
     public void startRound() {
-        deck.shuffle();
-        notifyObserversWithEvent(GameEventType.GAME_STARTED);
+        if (deck.needsShuffle()) {
+            deck.shuffle();
+            publish(new GameEvent.ShoeShuffled(deck.getDeckCount(), deck.remaining()));
+        }
+        if (eventBus.hasSubscribers(GameEventType.ROUND_STARTED))
+            publish(new GameEvent.RoundStarted(deck.getPosition(), deck.remaining()));
+        publish(GameEvent.Signal.of(GameEventType.GAME_STARTED));
+        publish(new GameEvent.BetPlaced(humanPlayer, humanPlayer.getCurrentBet(), 0, -1, humanPlayer.getBalance()));
         int i = 0;
         for (Player player : players)
             if (player instanceof AIPlayer aiPlayer) {
                 int aiBet = getAIBetAmount(aiPlayer);
                 aiPlayer.placeBet(aiBet, 0);
                 // Notifica l'evento di scommessa piazzata per l'AI
-                notifyObserversWithEvent(GameEventType.BET_PLACED,
-                        "player", aiPlayer.getName(),
-                        "amount", aiBet,
-                        "indexHand", currentHandIndex,
-                        "index", i++);
+                publish(new GameEvent.BetPlaced(aiPlayer, aiBet, currentHandIndex, i++, aiPlayer.getBalance()));
             }
         currentHandIndex = 0;
         dealInitialCards();
@@ -74,13 +95,13 @@ public class TurnManager extends Observable {
         if (gameState == GameState.PLAYER_TURN &&
                 dealer.getHand(0).get(0).isAce() &&
                 !humanPlayer.hasInsurance()) {
-                notifyObserversWithEvent(GameEventType.INSURANCE_OFFERED);
+                publish(GameEvent.Signal.of(GameEventType.INSURANCE_OFFERED));
         }
         if (humanPlayer.hasBlackjack(currentHandIndex)) {
-            notifyObserversWithEvent(GameEventType.BLACKJACK_ACHIEVED, "player", humanPlayer, "handIndex", currentHandIndex);
+            publish(new GameEvent.BlackjackAchieved(humanPlayer, currentHandIndex));
             playerStand();
         }
-        notifyObserversWithEvent(GameEventType.HAND_UPDATED);
+        publish(GameEvent.Signal.of(GameEventType.HAND_UPDATED));
     }
 
     /**
@@ -111,32 +132,32 @@ public class TurnManager extends Observable {
      */
     private void dealInitialCards() {
         //Card humanCard1 = deck.drawCard();
-        Card humanCard1 = new Card(Rank.TEN, Suit.CLUBS);
+        Card humanCard1 = Card.of(Rank.TEN, Suit.CLUBS);
         humanPlayer.addCard(humanCard1);
         createCardDealtEvent(humanPlayer, humanCard1, currentHandIndex, false);
 
         //Card humanCard2 = deck.drawCard();
-        Card humanCard2 = new Card(Rank.TEN, Suit.HEARTS);
+        Card humanCard2 = Card.of(Rank.TEN, Suit.HEARTS);
         humanPlayer.addCard(humanCard2);
         createCardDealtEvent(humanPlayer, humanCard2, currentHandIndex, false);
 
         for (Player player : players) {
                 Card card1 = deck.drawCard();
-                //Card card1 = new Card(Rank.ACE, Suit.SPADES);
+                //Card card1 = Card.of(Rank.ACE, Suit.SPADES);
                 player.addCard(card1);
                 createCardDealtEvent(player, card1, 0, false);
                 Card card2 = deck.drawCard();
-                //Card card2 = new Card(Rank.ACE, Suit.SPADES);
+                //Card card2 = Card.of(Rank.ACE, Suit.SPADES);
                 player.addCard(card2);
                 createCardDealtEvent(player, card2, 0, false);
                 if (player.hasBlackjack(currentHandIndex))
-                    notifyObserversWithEvent(GameEventType.BLACKJACK_ACHIEVED, "player", player, "handIndex", currentHandIndex);
+                    publish(new GameEvent.BlackjackAchieved(player, currentHandIndex));
         }
         Card dealerCard1 = deck.drawCard();
         dealer.addCard(dealerCard1);
         createCardDealtEvent(dealer, dealerCard1, 0, true);
         Card dealerCard2 = deck.drawCard();
-        //Card dealerCard2 = new Card(Rank.ACE, Suit.HEARTS);
+        //Card dealerCard2 = Card.of(Rank.ACE, Suit.HEARTS);
         dealer.addCard(dealerCard2);
         createCardDealtEvent(dealer, dealerCard2, currentHandIndex, false);
     }
@@ -147,7 +168,7 @@ public class TurnManager extends Observable {
             playAITurns();
         } else if (humanPlayer.hasBlackjack(currentHandIndex + 1)) {
             currentHandIndex++;
-            notifyObserversWithEvent(GameEventType.BLACKJACK_ACHIEVED, "player", humanPlayer, "handIndex", currentHandIndex);
+            publish(new GameEvent.BlackjackAchieved(humanPlayer, currentHandIndex));
             playerStand();
         }
         else{
@@ -169,7 +190,7 @@ public class TurnManager extends Observable {
         createCardDealtEvent(humanPlayer, card, currentHandIndex, false);
 
         if (humanPlayer.getHandValue(currentHandIndex) > 21) {
-            notifyObserversWithEvent(GameEventType.PLAYER_BUSTED, "player", humanPlayer, "handIndex", currentHandIndex);
+            publish(new GameEvent.PlayerBusted(humanPlayer, currentHandIndex));
             handleHandTransition();
         }
     }
@@ -197,11 +218,11 @@ public class TurnManager extends Observable {
             Card card = deck.drawCard();
             humanPlayer.addCard(currentHandIndex, card);
             createCardDealtEvent(humanPlayer, card, currentHandIndex, false);
-            notifyObserversWithEvent(GameEventType.DOUBLE_DOWN_EXECUTED,
-                    "player", humanPlayer,
-                    "currentHandIndex", currentHandIndex,
-                    "newBet", humanPlayer.getHands().get(currentHandIndex).getBet(),
-                    "currentBet", humanPlayer.getCurrentBet());
+            publish(new GameEvent.DoubleDown(humanPlayer, currentHandIndex,
+                    humanPlayer.getHands().get(currentHandIndex).getBet(),
+                    humanPlayer.getCurrentBet(),
+                    humanPlayer.getBalance(),
+                    humanPlayer.getHandValue(currentHandIndex)));
             handleHandTransition();
             return true;
         }
@@ -225,16 +246,13 @@ public class TurnManager extends Observable {
             Card newCard2 = deck.drawCard();
             int bet = humanPlayer.getCurrentBet();
             humanPlayer.splitHand(currentHandIndex, newCard1, newCard2);
-            notifyObserversWithEvent(GameEventType.HAND_SPLIT,
-                    "player", humanPlayer,
-                    "newCard1", newCard1,
-                    "newCard2", newCard2,
-                    "handValue1", humanPlayer.getHandValue(currentHandIndex),
-                    "handValue2", humanPlayer.getHandValue(currentHandIndex + 1),
-                    "bet", bet);
+            publish(new GameEvent.HandSplit(humanPlayer, currentHandIndex, newCard1, newCard2,
+                    humanPlayer.getHandValue(currentHandIndex),
+                    humanPlayer.getHandValue(currentHandIndex + 1),
+                    bet, humanPlayer.getCurrentBet(), humanPlayer.getBalance()));
 
             if (humanPlayer.hasBlackjack(currentHandIndex)) {
-                notifyObserversWithEvent(GameEventType.BLACKJACK_ACHIEVED, "player", humanPlayer, "handIndex", currentHandIndex);
+                publish(new GameEvent.BlackjackAchieved(humanPlayer, currentHandIndex));
                 playerStand();
             }
             return true;
@@ -255,11 +273,8 @@ public class TurnManager extends Observable {
 
             boolean success = humanPlayer.takeInsurance() && bankManager.placeInsurance(humanPlayer);
             if (success) {
-                notifyObserversWithEvent(GameEventType.INSURANCE_ACCEPTED,
-                        "player", humanPlayer,
-                        "amount", humanPlayer.getInsuranceAmount(),
-                        "balance", humanPlayer.getBalance(),
-                        "handIndex", currentHandIndex);
+                publish(new GameEvent.InsuranceAccepted(humanPlayer, humanPlayer.getInsuranceAmount(),
+                        humanPlayer.getBalance(), currentHandIndex));
                 return true;
             }
         }
@@ -271,7 +286,7 @@ public class TurnManager extends Observable {
      *
      */
     public void declineInsurance(){
-        notifyObserversWithEvent(GameEventType.INSURANCE_DECLINED);
+        publish(GameEvent.Signal.of(GameEventType.INSURANCE_DECLINED));
     }
 
     /**
@@ -286,46 +301,37 @@ public class TurnManager extends Observable {
 
                     while (continuePlaying && aiPlayer.getHandValue(handIndex) < 21) {
                         Card dealerUpCard = dealer.getHand(0).get(0);
-                        int handValue = aiPlayer.getHandValue(handIndex);
-
-                        if (aiPlayer.getHands().get(handIndex).getCards().size() == 2) {
-                            Card card1 = aiPlayer.getHands().get(handIndex).getCards().get(0);
-                            Card card2 = aiPlayer.getHands().get(handIndex).getCards().get(1);
-
-                            if (strategy.shouldSplitHand(card1, card2, dealerUpCard)) {
-                                if (aiPlayer.canSplit(handIndex)) {
-                                    Card newCard1 = deck.drawCard();
-                                    Card newCard2 = deck.drawCard();
-                                    int bet = aiPlayer.getCurrentBet();
-                                    aiPlayer.splitHand(handIndex, newCard1, newCard2);
-                                    notifyObserversWithEvent(GameEventType.HAND_SPLIT,
-                                            "player", aiPlayer,
-                                            "newCard1", newCard1,
-                                            "newCard2", newCard2,
-                                            "handValue1", aiPlayer.getHandValue(handIndex),
-                                            "handValue2", aiPlayer.getHandValue(handIndex + 1),
-                                            "bet", bet);
-                                    continue;
-                                }
-                            }
+                        Hand hand = aiPlayer.getHands().get(handIndex);
+                        int handValue = hand.getValue();
+                        // Il tavolo non prevede la resa
+                        StrategyAction action = strategy.decide(hand, dealerUpCard,
+                                aiPlayer.canSplit(handIndex), aiPlayer.canDoubleDown(handIndex), false);
+
+                        if (action == StrategyAction.SPLIT) {
+                            Card newCard1 = deck.drawCard();
+                            Card newCard2 = deck.drawCard();
+                            int bet = aiPlayer.getCurrentBet();
+                            aiPlayer.splitHand(handIndex, newCard1, newCard2);
+                            publish(new GameEvent.HandSplit(aiPlayer, handIndex, newCard1, newCard2,
+                                    aiPlayer.getHandValue(handIndex),
+                                    aiPlayer.getHandValue(handIndex + 1),
+                                    bet, aiPlayer.getCurrentBet(), aiPlayer.getBalance()));
+                            continue;
                         }
-                        // Verifica se fare Double Down (seconda priorità)
-                        if (aiPlayer.getHands().get(handIndex).getCards().size() == 2 &&
-                                strategy.shouldPlayDoubleDown(handValue, dealerUpCard)) {
-                            if (aiPlayer.canDoubleDown(handIndex)) {
-                                Card card = deck.drawCard();
-                                aiPlayer.doubleDown(handIndex, card);
-
-                                notifyObserversWithEvent(GameEventType.DOUBLE_DOWN_EXECUTED,
-                                        "player", aiPlayer,
-                                        "currentHandIndex", handIndex,
-                                        "newBet", aiPlayer.getHands().get(handIndex).getBet(),
-                                        "handValue", aiPlayer.getHandValue(handIndex));
-
-                                createCardDealtEvent(aiPlayer, card, handIndex, false);
-                                continuePlaying = false;
-                                continue;
-                            }
+
+                        if (action == StrategyAction.DOUBLE_DOWN) {
+                            Card card = deck.drawCard();
+                            aiPlayer.doubleDown(handIndex, card);
+
+                            publish(new GameEvent.DoubleDown(aiPlayer, handIndex,
+                                    aiPlayer.getHands().get(handIndex).getBet(),
+                                    aiPlayer.getCurrentBet(),
+                                    aiPlayer.getBalance(),
+                                    aiPlayer.getHandValue(handIndex)));
+
+                            createCardDealtEvent(aiPlayer, card, handIndex, false);
+                            continuePlaying = false;
+                            continue;
                         }
 
                         if (handIndex == 0 && dealerUpCard.isAce() &&
@@ -334,28 +340,21 @@ public class TurnManager extends Observable {
 
                             player.takeInsurance();
                             bankManager.placeInsurance(player);
-                            notifyObserversWithEvent(GameEventType.INSURANCE_ACCEPTED,
-                                    "player", aiPlayer,
-                                    "amount", aiPlayer.getInsuranceAmount(),
-                                    "balance", aiPlayer.getBalance(),
-                                    "handIndex", handIndex);
+                            publish(new GameEvent.InsuranceAccepted(aiPlayer, aiPlayer.getInsuranceAmount(),
+                                    aiPlayer.getBalance(), handIndex));
                         }
 
-                        if (strategy.shouldDraw(handValue)) {
+                        if (action == StrategyAction.HIT) {
                             Card card = deck.drawCard();
                             aiPlayer.addCard(handIndex, card);
                             createCardDealtEvent(player, card, handIndex, false);
 
                             if (aiPlayer.getHandValue(handIndex) > 21) {
                                 continuePlaying = false;
-                                notifyObserversWithEvent(GameEventType.PLAYER_BUSTED,
-                                        "player", aiPlayer,
-                                        "handIndex", handIndex);
+                                publish(new GameEvent.PlayerBusted(aiPlayer, handIndex));
                             }
                         } else {
-                            notifyObserversWithEvent(GameEventType.PLAYER_STAND,
-                                    "player", aiPlayer.getName(),
-                                    "handIndex", handIndex);
+                            publish(new GameEvent.PlayerStand(aiPlayer, handIndex));
                             continuePlaying = false;
                         }
                     }
@@ -372,7 +371,7 @@ public class TurnManager extends Observable {
     private void playDealerTurn() {
         Card hiddenCard = dealer.getHiddenCard();
         dealer.revealHiddenCard();
-        notifyObserversWithEvent(GameEventType.DEALER_TURN_STARTED, "card", hiddenCard, "handValue", dealer.getHandValue(0));
+        publish(new GameEvent.DealerTurnStarted(hiddenCard, dealer.getHandValue(0)));
         boolean allPlayersBusted = isAllPlayersBusted();
         if (!allPlayersBusted) {
             PlayerStrategy strategy = dealer.getStrategy();
@@ -381,7 +380,7 @@ public class TurnManager extends Observable {
                 dealer.addCard(0, newCard);
                 createCardDealtEvent(dealer, newCard, 0, false);
                 if (dealer.isBusted(0)) {
-                    notifyObserversWithEvent(GameEventType.DEALER_BUSTED);
+                    publish(GameEvent.Signal.of(GameEventType.DEALER_BUSTED));
                     break;
                 }
             }
@@ -410,6 +409,10 @@ public class TurnManager extends Observable {
      * Termina il round e determina i risultati.
      */
     private void endRound() {
+        boolean reportWinnings = eventBus.hasSubscribers(GameEventType.WINNINGS_PAID);
+        int humanBalance = humanPlayer.getBalance();
+        int[] balances = reportWinnings ? balancesOf(players) : null;
+
         if (dealer.hasBlackjack(0) && !insurancePaid) {
             resultCalculator.processInsuranceOutcomes(humanPlayer, players, insurancePaid);
             insurancePaid = true;
@@ -419,11 +422,19 @@ public class TurnManager extends Observable {
 
         Map<String, Integer> humanPlayerResults = resultCalculator.calculateResults(humanPlayer, players, dealer);
 
-        notifyObserversWithEvent(GameEventType.ROUND_ENDED,
-                "finalBalance", humanPlayerResults.get("finalBalance"),
-                "wonHands", humanPlayerResults.get("wonHands"),
-                "lostHands", humanPlayerResults.get("lostHands"),
-                "totalHands", humanPlayerResults.get("totalHands"));
+        if (reportWinnings) {
+            publish(new GameEvent.WinningsPaid(humanPlayer, humanPlayer.getBalance() - humanBalance, humanPlayer.getBalance()));
+            for (int i = 0; i < players.size(); i++) {
+                Player player = players.get(i);
+                publish(new GameEvent.WinningsPaid(player, player.getBalance() - balances[i], player.getBalance()));
+            }
+        }
+
+        publish(new GameEvent.RoundEnded(
+                humanPlayerResults.get("finalBalance"),
+                humanPlayerResults.get("wonHands"),
+                humanPlayerResults.get("lostHands"),
+                humanPlayerResults.get("totalHands")));
 
         gameState = GameState.GAME_OVER;
         humanPlayer.resetHand();
@@ -434,16 +445,34 @@ public class TurnManager extends Observable {
     }
 
     /**
-     * Notifica gli osservatori con un evento di gioco.
+     * Restituisce i saldi dei giocatori, per calcolare quanto viene accreditato dalla liquidazione.
+     *
+     * @param players I giocatori
+     * @return I saldi, nello stesso ordine dei giocatori
+     */
+    private static int[] balancesOf(List<Player> players) {
+        int[] balances = new int[players.size()];
+        for (int i = 0; i < balances.length; i++)
+            balances[i] = players.get(i).getBalance();
+        return balances;
+    }
+
+    /**
+     * Pubblica un evento di gioco sul bus.
      *
-     * @param eventType Il tipo di evento da notificare
-     * @param keyValuePairs Coppie chiave-valore per i dati dell'evento
+     * @param event L'evento da pubblicare
      */
-    private void notifyObserversWithEvent(GameEventType eventType, Object... keyValuePairs) {
-        GameEvent event = GameEvent.create(eventType, keyValuePairs);
-        setChanged();
-        notifyObservers(event);
-        event = null;
+    private void publish(GameEvent event) {
+        eventBus.publish(event);
+    }
+
+    /**
+     * Restituisce il bus su cui vengono pubblicati gli eventi di gioco.
+     *
+     * @return Il bus degli eventi
+     */
+    public EventBus getEventBus() {
+        return eventBus;
     }
 
     /**
@@ -471,16 +500,9 @@ public class TurnManager extends Observable {
      * @param isHiddenCard Indica se la carta è nascosta
      */
     private void createCardDealtEvent(Player player, Card card, int handIndex, boolean isHiddenCard) {
-        if (player instanceof Dealer) {
-            notifyObserversWithEvent(GameEventType.CARD_DEALT,
-                    "player", player,
-                    "card", card,
-                    "isHiddenCard", isHiddenCard);
-        } else {
-            notifyObserversWithEvent(GameEventType.CARD_DEALT,
-                    "player", player,
-                    "handIndex", handIndex,
-                    "card", card);
-        }
+        if (!eventBus.hasSubscribers(GameEventType.CARD_DEALT))
+            return;
+        int eventHandIndex = player instanceof Dealer ? 0 : handIndex;
+        publish(new GameEvent.CardDealt(player, eventHandIndex, card, isHiddenCard, player.getHandValue(eventHandIndex)));
     }
 }
\ No newline at end of file
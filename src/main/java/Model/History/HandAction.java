@@ -0,0 +1,25 @@
+package Model.History;
+
+/**
+ * Enumerazione delle azioni registrate nello storico delle mani.
+ * Le pescate non sono azioni a sé: ogni carta ricevuta da una mano oltre le prime due
+ * (o la carta di un raddoppio) compare come carta distribuita a quella mano.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public enum HandAction {
+    /** La mano si ferma. */
+    STAND,
+    /** La mano ha superato 21 (per il dealer: il dealer ha sballato). */
+    BUST,
+    /** La mano ha ottenuto blackjack. */
+    BLACKJACK,
+    /** La mano viene raddoppiata; l'importo è la puntata aggiuntiva. */
+    DOUBLE_DOWN,
+    /** La mano viene divisa; l'importo è la puntata della nuova mano, aggiunta in coda alle mani del posto. */
+    SPLIT,
+    /** Il posto accetta l'assicurazione; l'importo è il costo dell'assicurazione. */
+    INSURANCE
+}
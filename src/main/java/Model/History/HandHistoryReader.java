@@ -0,0 +1,231 @@
+package Model.History;
+
+import Model.Game.Objects.Card;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Lettore sequenziale di uno storico delle mani scritto da {@link HandHistoryWriter}.
+ * Consegna ogni round a un {@link HandHistoryVisitor}, voce per voce e nell'ordine in cui è stata registrata,
+ * così che il round possa essere rigiocato o aggregato in un'analisi senza costruire oggetti intermedi.
+ * Un record troncato in coda al file viene trattato come la fine dello storico.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class HandHistoryReader implements Closeable {
+    private static final HandAction[] ACTIONS = HandAction.values();
+
+    private final Path path;
+    private final DataInputStream input;
+    private final int deckCount;
+    private byte[] body;
+    private int position;
+    private long round;
+    private long validLength;
+
+    /**
+     * Apre lo storico indicato e ne legge l'intestazione.
+     *
+     * @param path Percorso del file dello storico
+     * @throws IOException Se il file non può essere letto o non è uno storico valido
+     */
+    public HandHistoryReader(Path path) throws IOException {
+        this.path = path;
+        this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024));
+        this.body = new byte[256];
+
+        try {
+            if (input.readInt() != HandHistoryWriter.MAGIC || input.readUnsignedShort() != HandHistoryWriter.VERSION)
+                throw invalid("intestazione non riconosciuta");
+            this.deckCount = input.readUnsignedShort();
+        } catch (IOException e) {
+            input.close();
+            throw e instanceof EOFException ? invalid("file troppo corto") : e;
+        }
+        this.validLength = HandHistoryWriter.HEADER_SIZE;
+    }
+
+    /**
+     * Restituisce il numero di mazzi del sabot registrato nell'intestazione.
+     *
+     * @return Numero di mazzi
+     */
+    public int getDeckCount() {
+        return deckCount;
+    }
+
+    /**
+     * Restituisce il numero di round letti finora.
+     *
+     * @return Round letti
+     */
+    public long getRoundsRead() {
+        return round;
+    }
+
+    /**
+     * Legge il round successivo e lo consegna al visitatore.
+     *
+     * @param visitor Il visitatore, o null per saltare il round
+     * @return true se un round è stato letto, false alla fine dello storico
+     * @throws IOException Se il file non può essere letto o il round è danneggiato
+     */
+    public boolean next(HandHistoryVisitor visitor) throws IOException {
+        int size = readLength();
+        if (size < 0)
+            return false;
+
+        if (body.length < size)
+            body = new byte[Math.max(size, body.length * 2)];
+        try {
+            input.readFully(body, 0, size);
+        } catch (EOFException e) {
+            return false;
+        }
+
+        validLength += varintSize(size) + size;
+        if (visitor != null)
+            decode(size, visitor);
+        round++;
+        return true;
+    }
+
+    /**
+     * Legge tutti i round rimanenti consegnandoli al visitatore.
+     *
+     * @param visitor Il visitatore
+     * @return Numero di round letti
+     * @throws IOException Se il file non può essere letto o un round è danneggiato
+     */
+    public long readAll(HandHistoryVisitor visitor) throws IOException {
+        long count = 0;
+        while (next(visitor))
+            count++;
+        return count;
+    }
+
+    /**
+     * Restituisce la lunghezza in byte dell'intestazione e dei round completi letti finora.
+     *
+     * @return Lunghezza valida del file
+     */
+    long getValidLength() {
+        return validLength;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    /**
+     * Legge la lunghezza del prossimo round.
+     *
+     * @return La lunghezza, o -1 alla fine del file o se la lunghezza è troncata
+     * @throws IOException Se il file non può essere letto
+     */
+    private int readLength() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = input.read();
+            if (b < 0)
+                return -1;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw invalid("lunghezza del round " + round + " non valida");
+    }
+
+    /**
+     * Decodifica le voci di un round letto nel buffer.
+     *
+     * @param size Lunghezza del round
+     * @param visitor Il visitatore
+     * @throws IOException Se il round è danneggiato
+     */
+    private void decode(int size, HandHistoryVisitor visitor) throws IOException {
+        position = 0;
+        try {
+            boolean shuffled = (body[position++] & HandHistoryWriter.FLAG_SHUFFLED) != 0;
+            visitor.onRoundStart(round, readVarint(), shuffled);
+
+            while (position < size) {
+                int header = body[position++] & 0xFF;
+                int seat = header & HandHistoryWriter.SEAT_MASK;
+                switch (header >>> HandHistoryWriter.OP_SHIFT) {
+                    case HandHistoryWriter.OP_BET -> {
+                        int handIndex = body[position++] & 0xFF;
+                        visitor.onBet(seat, handIndex, readVarint());
+                    }
+                    case HandHistoryWriter.OP_CARD -> {
+                        int handIndex = body[position++] & 0xFF;
+                        int card = body[position++] & 0xFF;
+                        visitor.onCard(seat, handIndex, Card.ofOrdinal(card & ~HandHistoryWriter.HIDDEN_CARD),
+                                (card & HandHistoryWriter.HIDDEN_CARD) != 0);
+                    }
+                    case HandHistoryWriter.OP_ACTION -> {
+                        int handIndex = body[position++] & 0xFF;
+                        HandAction action = ACTIONS[body[position++] & 0xFF];
+                        visitor.onAction(seat, handIndex, action, readVarint());
+                    }
+                    case HandHistoryWriter.OP_PAYOUT -> visitor.onPayout(seat, readVarint());
+                    default -> throw invalid("voce sconosciuta nel round " + round);
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw invalid("round " + round + " danneggiato");
+        }
+
+        if (position != size)
+            throw invalid("round " + round + " danneggiato");
+        visitor.onRoundEnd(round);
+    }
+
+    /**
+     * Legge dal buffer un intero non negativo a lunghezza variabile.
+     *
+     * @return Il valore
+     */
+    private int readVarint() {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = body[position++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+    }
+
+    /**
+     * Calcola quanti byte occupa un intero a lunghezza variabile.
+     *
+     * @param value Il valore
+     * @return Numero di byte
+     */
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Crea l'eccezione per uno storico non valido.
+     *
+     * @param reason Il motivo
+     * @return L'eccezione
+     */
+    private IOException invalid(String reason) {
+        return new IOException("Storico delle mani " + path + " non valido: " + reason);
+    }
+}
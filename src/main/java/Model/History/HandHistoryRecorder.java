@@ -0,0 +1,213 @@
+package Model.History;
+
+import Model.Game.EventBus;
+import Model.Game.GameEvent;
+import Model.Game.GameEventListener;
+import Model.Game.GameEventType;
+import Model.Players.Dealer;
+import Model.Players.Player;
+import Utility.LoggerUtility;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Ascoltatore che registra nello storico delle mani i round giocati su un tavolo.
+ * Si iscrive agli eventi del {@link Model.Game.TurnManager} e traduce ogni evento in una voce
+ * di un {@link HandHistoryWriter}: un round inizia con {@link GameEventType#ROUND_STARTED} e viene scritto
+ * a {@link GameEventType#ROUND_ENDED}. Il giocatore umano occupa il posto 0, i giocatori AI i posti successivi
+ * nell'ordine di puntata e il dealer il posto {@link HandHistoryWriter#DEALER_SEAT}.
+ * <p>
+ * Le voci vengono ricavate solo dai dati degli eventi, quindi l'ascoltatore funziona con qualsiasi
+ * modalità di consegna del bus; va però usato dal solo thread che consegna gli eventi.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class HandHistoryRecorder implements GameEventListener, Closeable {
+    private static final LoggerUtility LOGGER = new LoggerUtility();
+    private static final GameEventType[] RECORDED_TYPES = {
+            GameEventType.SHOE_SHUFFLED, GameEventType.ROUND_STARTED, GameEventType.BET_PLACED,
+            GameEventType.CARD_DEALT, GameEventType.BLACKJACK_ACHIEVED, GameEventType.PLAYER_BUSTED,
+            GameEventType.PLAYER_STAND, GameEventType.DOUBLE_DOWN_EXECUTED, GameEventType.HAND_SPLIT,
+            GameEventType.INSURANCE_ACCEPTED, GameEventType.DEALER_BUSTED, GameEventType.WINNINGS_PAID,
+            GameEventType.ROUND_ENDED
+    };
+
+    private final HandHistoryWriter writer;
+    private final Map<Player, Integer> seats;
+    private final int[] handCounts;
+    private boolean shuffled;
+    private boolean recording;
+
+    /**
+     * Costruisce un registratore che scrive sullo storico indicato.
+     *
+     * @param writer Lo storico su cui scrivere i round
+     * @throws IllegalArgumentException Se lo storico è null
+     */
+    public HandHistoryRecorder(HandHistoryWriter writer) {
+        if (writer == null)
+            throw new IllegalArgumentException("Lo storico non può essere null");
+
+        this.writer = writer;
+        this.seats = new IdentityHashMap<>();
+        this.handCounts = new int[HandHistoryWriter.DEALER_SEAT + 1];
+    }
+
+    /**
+     * Iscrive il registratore agli eventi del bus necessari allo storico.
+     *
+     * @param eventBus Il bus degli eventi del tavolo
+     */
+    public void attach(EventBus eventBus) {
+        for (GameEventType type : RECORDED_TYPES)
+            eventBus.subscribe(type, this);
+    }
+
+    /**
+     * Rimuove il registratore dal bus. Un round in corso non viene scritto.
+     *
+     * @param eventBus Il bus degli eventi del tavolo
+     */
+    public void detach(EventBus eventBus) {
+        for (GameEventType type : RECORDED_TYPES)
+            eventBus.unsubscribe(type, this);
+        recording = false;
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        switch (event.getType()) {
+            case SHOE_SHUFFLED -> shuffled = true;
+            case ROUND_STARTED -> {
+                GameEvent.RoundStarted started = (GameEvent.RoundStarted) event;
+                writer.beginRound(started.shoePosition(), shuffled);
+                Arrays.fill(handCounts, 1);
+                shuffled = false;
+                recording = true;
+            }
+            default -> {
+                if (recording)
+                    record(event);
+            }
+        }
+    }
+
+    /**
+     * Traduce un evento del round in corso in una voce dello storico.
+     *
+     * @param event L'evento
+     */
+    private void record(GameEvent event) {
+        switch (event.getType()) {
+            case BET_PLACED -> {
+                GameEvent.BetPlaced bet = (GameEvent.BetPlaced) event;
+                int seat = bet.seatIndex() + 1;
+                if (seat > HandHistoryWriter.MAX_SEAT)
+                    return;
+                seats.put(bet.player(), seat);
+                writer.bet(seat, bet.handIndex(), bet.amount());
+            }
+            case CARD_DEALT -> {
+                GameEvent.CardDealt card = (GameEvent.CardDealt) event;
+                int seat = seatOf(card.player());
+                if (seat >= 0)
+                    writer.card(seat, card.handIndex(), card.card(), card.hidden());
+            }
+            case BLACKJACK_ACHIEVED -> {
+                GameEvent.BlackjackAchieved blackjack = (GameEvent.BlackjackAchieved) event;
+                action(blackjack.player(), blackjack.handIndex(), HandAction.BLACKJACK, 0);
+            }
+            case PLAYER_BUSTED -> {
+                GameEvent.PlayerBusted busted = (GameEvent.PlayerBusted) event;
+                action(busted.player(), busted.handIndex(), HandAction.BUST, 0);
+            }
+            case PLAYER_STAND -> {
+                GameEvent.PlayerStand stand = (GameEvent.PlayerStand) event;
+                action(stand.player(), stand.handIndex(), HandAction.STAND, 0);
+            }
+            case DOUBLE_DOWN_EXECUTED -> {
+                GameEvent.DoubleDown doubleDown = (GameEvent.DoubleDown) event;
+                action(doubleDown.player(), doubleDown.handIndex(), HandAction.DOUBLE_DOWN, doubleDown.newBet() / 2);
+            }
+            case HAND_SPLIT -> {
+                GameEvent.HandSplit split = (GameEvent.HandSplit) event;
+                int seat = seatOf(split.player());
+                if (seat < 0)
+                    return;
+                int newHandIndex = handCounts[seat]++;
+                writer.action(seat, split.handIndex(), HandAction.SPLIT, split.bet());
+                writer.card(seat, split.handIndex(), split.newCard1(), false);
+                writer.card(seat, newHandIndex, split.newCard2(), false);
+            }
+            case INSURANCE_ACCEPTED -> {
+                GameEvent.InsuranceAccepted insurance = (GameEvent.InsuranceAccepted) event;
+                action(insurance.player(), insurance.handIndex(), HandAction.INSURANCE, insurance.amount());
+            }
+            case DEALER_BUSTED -> writer.action(HandHistoryWriter.DEALER_SEAT, 0, HandAction.BUST, 0);
+            case WINNINGS_PAID -> {
+                GameEvent.WinningsPaid winnings = (GameEvent.WinningsPaid) event;
+                int seat = seatOf(winnings.player());
+                if (seat >= 0)
+                    writer.payout(seat, Math.max(0, winnings.amount()));
+            }
+            case ROUND_ENDED -> endRound();
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Registra un'azione di un giocatore già seduto.
+     *
+     * @param player Il giocatore
+     * @param handIndex Indice della mano
+     * @param action L'azione
+     * @param amount Importo puntato dall'azione
+     */
+    private void action(Player player, int handIndex, HandAction action, int amount) {
+        int seat = seatOf(player);
+        if (seat >= 0)
+            writer.action(seat, handIndex, action, amount);
+    }
+
+    /**
+     * Scrive il round in corso. Un errore di scrittura viene registrato senza interrompere la partita.
+     */
+    private void endRound() {
+        recording = false;
+        try {
+            writer.endRound();
+        } catch (IOException e) {
+            LOGGER.logError("Errore nella scrittura dello storico delle mani: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Restituisce il posto di un giocatore.
+     *
+     * @param player Il giocatore
+     * @return Il posto, o -1 se il giocatore non ha ancora puntato
+     */
+    private int seatOf(Player player) {
+        if (player instanceof Dealer)
+            return HandHistoryWriter.DEALER_SEAT;
+        Integer seat = seats.get(player);
+        return seat != null ? seat : -1;
+    }
+
+    /**
+     * Scrive i round registrati e chiude lo storico.
+     *
+     * @throws IOException Se lo storico non può essere scritto
+     */
+    @Override
+    public void close() throws IOException {
+        recording = false;
+        writer.close();
+    }
+}
@@ -0,0 +1,74 @@
+package Model.History;
+
+import Model.Game.Objects.Card;
+
+/**
+ * Visitatore dei round letti da un {@link HandHistoryReader}.
+ * Tutti i metodi hanno un'implementazione vuota, così che un'analisi implementi solo quelli che le servono.
+ * I posti vanno da 0 a {@link HandHistoryWriter#MAX_SEAT}; il dealer ha il posto {@link HandHistoryWriter#DEALER_SEAT}.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface HandHistoryVisitor {
+
+    /**
+     * Inizia un round.
+     *
+     * @param round Numero progressivo del round nel file, a partire da 0
+     * @param shoePosition Carte già distribuite dal sabot all'inizio del round
+     * @param shuffled true se il sabot è stato rimescolato prima del round
+     */
+    default void onRoundStart(long round, int shoePosition, boolean shuffled) {
+    }
+
+    /**
+     * Un posto ha piazzato la puntata iniziale.
+     *
+     * @param seat Il posto
+     * @param handIndex Indice della mano
+     * @param amount Importo della puntata
+     */
+    default void onBet(int seat, int handIndex, int amount) {
+    }
+
+    /**
+     * Una carta è stata distribuita a una mano.
+     *
+     * @param seat Il posto, o {@link HandHistoryWriter#DEALER_SEAT}
+     * @param handIndex Indice della mano
+     * @param card La carta
+     * @param hidden true se la carta è stata distribuita coperta
+     */
+    default void onCard(int seat, int handIndex, Card card, boolean hidden) {
+    }
+
+    /**
+     * Una mano ha eseguito un'azione.
+     *
+     * @param seat Il posto, o {@link HandHistoryWriter#DEALER_SEAT}
+     * @param handIndex Indice della mano
+     * @param action L'azione
+     * @param amount Importo puntato dall'azione, 0 se l'azione non comporta puntate
+     */
+    default void onAction(int seat, int handIndex, HandAction action, int amount) {
+    }
+
+    /**
+     * Un posto è stato liquidato a fine round.
+     *
+     * @param seat Il posto
+     * @param amount Importo accreditato (puntate restituite e vincite), 0 se ha perso tutto
+     */
+    default void onPayout(int seat, int amount) {
+    }
+
+    /**
+     * Termina un round.
+     *
+     * @param round Numero progressivo del round nel file
+     */
+    default void onRoundEnd(long round) {
+    }
+}
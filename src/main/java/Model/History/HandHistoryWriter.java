@@ -0,0 +1,293 @@
+package Model.History;
+
+import Model.Game.Objects.Card;
+import Model.Game.Objects.Deck;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Scrittore append-only dello storico delle mani in formato binario compatto.
+ * <p>
+ * Il file inizia con un'intestazione (magic, versione, numero di mazzi del sabot) seguita da un record per round:
+ * la lunghezza del record, i flag del round, la posizione nel sabot e le voci del round nell'ordine in cui sono avvenute.
+ * Ogni voce inizia con un byte che contiene il tipo di voce e il posto; le carte sono memorizzate come ordinali
+ * ({@link Card#getOrdinal()}) e gli importi e le lunghezze come interi a lunghezza variabile,
+ * quindi una carta occupa 3 byte e una puntata tipica 3 o 4.
+ * <p>
+ * Le voci di un round vengono accumulate in un buffer in memoria e il record viene scritto,
+ * completo, solo a {@link #endRound()}: un round interrotto non lascia tracce nel file e un record troncato
+ * in coda (ad esempio per un'interruzione durante la scrittura) viene scartato alla riapertura.
+ * Lo scrittore non è thread-safe: va usato da un solo tavolo.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class HandHistoryWriter implements Closeable {
+    /** Posto massimo di un giocatore. */
+    public static final int MAX_SEAT = 30;
+    /** Posto con cui viene registrato il dealer. */
+    public static final int DEALER_SEAT = 31;
+
+    static final int MAGIC = 0x4A424848;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int FLAG_SHUFFLED = 1;
+    static final int OP_BET = 0;
+    static final int OP_CARD = 1;
+    static final int OP_ACTION = 2;
+    static final int OP_PAYOUT = 3;
+    static final int OP_SHIFT = 5;
+    static final int SEAT_MASK = 0x1F;
+    static final int HIDDEN_CARD = 0x80;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream output;
+    private final int deckCount;
+    private byte[] round;
+    private int length;
+    private boolean inRound;
+    private long roundCount;
+
+    /**
+     * Apre lo storico sul file indicato, creandolo se non esiste o accodando i nuovi round a quelli presenti.
+     *
+     * @param path Percorso del file dello storico
+     * @param deckCount Numero di mazzi del sabot del tavolo
+     * @throws IOException Se il file non può essere aperto, non è uno storico valido o è stato scritto con un sabot diverso
+     * @throws IllegalArgumentException Se il numero di mazzi non è valido
+     */
+    public HandHistoryWriter(Path path, int deckCount) throws IOException {
+        if (deckCount < Deck.MIN_DECK_COUNT || deckCount > Deck.MAX_DECK_COUNT)
+            throw new IllegalArgumentException("Il numero di mazzi deve essere compreso tra " + Deck.MIN_DECK_COUNT + " e " + Deck.MAX_DECK_COUNT);
+
+        this.deckCount = deckCount;
+        this.round = new byte[256];
+
+        if (Files.exists(path) && Files.size(path) > 0) {
+            long validLength;
+            try (HandHistoryReader reader = new HandHistoryReader(path)) {
+                if (reader.getDeckCount() != deckCount)
+                    throw new IOException("Lo storico " + path + " è stato scritto con " + reader.getDeckCount() + " mazzi, non " + deckCount);
+                while (reader.next(null))
+                    roundCount++;
+                validLength = reader.getValidLength();
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+            this.output = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.APPEND), BUFFER_SIZE);
+        } else {
+            this.output = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE);
+            DataOutputStream header = new DataOutputStream(output);
+            header.writeInt(MAGIC);
+            header.writeShort(VERSION);
+            header.writeShort(deckCount);
+        }
+    }
+
+    /**
+     * Inizia un nuovo round, scartando le voci di un eventuale round non terminato.
+     *
+     * @param shoePosition Carte già distribuite dal sabot
+     * @param shuffled true se il sabot è stato rimescolato prima del round
+     */
+    public void beginRound(int shoePosition, boolean shuffled) {
+        length = 0;
+        inRound = true;
+        put(shuffled ? FLAG_SHUFFLED : 0);
+        putVarint(shoePosition);
+    }
+
+    /**
+     * Registra la puntata iniziale di un posto.
+     *
+     * @param seat Il posto
+     * @param handIndex Indice della mano
+     * @param amount Importo della puntata
+     * @throws IllegalArgumentException Se il posto, la mano o l'importo non sono validi
+     * @throws IllegalStateException Se nessun round è in corso
+     */
+    public void bet(int seat, int handIndex, int amount) {
+        putEntry(OP_BET, seat);
+        putHand(handIndex);
+        putAmount(amount);
+    }
+
+    /**
+     * Registra una carta distribuita a una mano.
+     *
+     * @param seat Il posto, o {@link #DEALER_SEAT}
+     * @param handIndex Indice della mano
+     * @param card La carta
+     * @param hidden true se la carta è distribuita coperta
+     * @throws IllegalArgumentException Se il posto o la mano non sono validi
+     * @throws IllegalStateException Se nessun round è in corso
+     */
+    public void card(int seat, int handIndex, Card card, boolean hidden) {
+        putEntry(OP_CARD, seat);
+        putHand(handIndex);
+        put(hidden ? card.getOrdinal() | HIDDEN_CARD : card.getOrdinal());
+    }
+
+    /**
+     * Registra un'azione di una mano.
+     *
+     * @param seat Il posto, o {@link #DEALER_SEAT}
+     * @param handIndex Indice della mano
+     * @param action L'azione
+     * @param amount Importo puntato dall'azione, 0 se l'azione non comporta puntate
+     * @throws IllegalArgumentException Se il posto, la mano o l'importo non sono validi
+     * @throws IllegalStateException Se nessun round è in corso
+     */
+    public void action(int seat, int handIndex, HandAction action, int amount) {
+        putEntry(OP_ACTION, seat);
+        putHand(handIndex);
+        put(action.ordinal());
+        putAmount(amount);
+    }
+
+    /**
+     * Registra quanto è stato accreditato a un posto dalla liquidazione del round.
+     *
+     * @param seat Il posto
+     * @param amount Importo accreditato (puntate restituite e vincite)
+     * @throws IllegalArgumentException Se il posto o l'importo non sono validi
+     * @throws IllegalStateException Se nessun round è in corso
+     */
+    public void payout(int seat, int amount) {
+        putEntry(OP_PAYOUT, seat);
+        putAmount(amount);
+    }
+
+    /**
+     * Termina il round e lo accoda al buffer di scrittura del file.
+     *
+     * @throws IOException Se il record non può essere scritto
+     * @throws IllegalStateException Se nessun round è in corso
+     */
+    public void endRound() throws IOException {
+        requireRound();
+        // La lunghezza viene codificata in coda al buffer e scritta prima del corpo del round
+        int size = length;
+        putVarint(size);
+        output.write(round, size, length - size);
+        output.write(round, 0, size);
+        length = 0;
+        inRound = false;
+        roundCount++;
+    }
+
+    /**
+     * Scrive sul file i round accodati nel buffer.
+     *
+     * @throws IOException Se i round non possono essere scritti
+     */
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    /**
+     * Restituisce il numero di mazzi del sabot registrato nell'intestazione.
+     *
+     * @return Numero di mazzi
+     */
+    public int getDeckCount() {
+        return deckCount;
+    }
+
+    /**
+     * Restituisce il numero di round nel file, compresi quelli presenti all'apertura.
+     *
+     * @return Numero di round
+     */
+    public long getRoundCount() {
+        return roundCount;
+    }
+
+    /**
+     * Chiude lo storico scrivendo i round accodati. Un round non terminato viene scartato.
+     *
+     * @throws IOException Se i round non possono essere scritti
+     */
+    @Override
+    public void close() throws IOException {
+        inRound = false;
+        output.close();
+    }
+
+    /**
+     * Scrive il byte iniziale di una voce, che contiene il tipo di voce e il posto.
+     *
+     * @param op Tipo di voce
+     * @param seat Il posto
+     */
+    private void putEntry(int op, int seat) {
+        requireRound();
+        if (seat < 0 || seat > DEALER_SEAT)
+            throw new IllegalArgumentException("Posto non valido: " + seat);
+        put(op << OP_SHIFT | seat);
+    }
+
+    /**
+     * Scrive l'indice di una mano.
+     *
+     * @param handIndex Indice della mano
+     */
+    private void putHand(int handIndex) {
+        if (handIndex < 0 || handIndex > 0xFF)
+            throw new IllegalArgumentException("Indice della mano non valido: " + handIndex);
+        put(handIndex);
+    }
+
+    /**
+     * Scrive un importo non negativo.
+     *
+     * @param amount L'importo
+     */
+    private void putAmount(int amount) {
+        if (amount < 0)
+            throw new IllegalArgumentException("Importo non valido: " + amount);
+        putVarint(amount);
+    }
+
+    /**
+     * Scrive un intero non negativo a lunghezza variabile, 7 bit per byte.
+     *
+     * @param value Il valore
+     */
+    private void putVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            put(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        put(value);
+    }
+
+    /**
+     * Accoda un byte al round corrente, ingrandendo il buffer se necessario.
+     *
+     * @param value Il byte
+     */
+    private void put(int value) {
+        if (length == round.length)
+            round = Arrays.copyOf(round, length * 2);
+        round[length++] = (byte) value;
+    }
+
+    /**
+     * Verifica che un round sia in corso.
+     */
+    private void requireRound() {
+        if (!inRound)
+            throw new IllegalStateException("Nessun round in corso");
+    }
+}
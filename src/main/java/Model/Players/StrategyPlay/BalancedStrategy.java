@@ -2,6 +2,8 @@ package Model.Players.StrategyPlay;
 
 import Model.Game.Objects.Card;
 import Model.Game.Objects.Rank;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Strategia bilanciata per i giocatori AI nel BlackJack.
@@ -39,7 +41,21 @@ public class BalancedStrategy implements PlayerStrategy{
      */
     @Override
     public boolean shouldTakeInsurance(int handValue, Card dealerCard) {
-        return dealerCard.isAce() && Math.random() < 0.3; // Prende l'assicurazione con una probabilità del 30%
+        return shouldTakeInsurance(handValue, dealerCard, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Prende l'assicurazione occasionalmente quando il dealer mostra un Asso,
+     * estraendo la probabilità dal generatore indicato.
+     *
+     * @param handValue Il valore corrente della mano del giocatore (non utilizzato)
+     * @param dealerCard La carta scoperta del dealer
+     * @param random Il generatore del tavolo
+     * @return true con 30% di probabilità se il dealer ha un Asso, false altrimenti
+     */
+    @Override
+    public boolean shouldTakeInsurance(int handValue, Card dealerCard, RandomGenerator random) {
+        return dealerCard.isAce() && random.nextDouble() < 0.3; // Prende l'assicurazione con una probabilità del 30%
     }
 
     /**
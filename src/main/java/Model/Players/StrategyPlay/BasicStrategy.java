@@ -0,0 +1,300 @@
+package Model.Players.StrategyPlay;
+
+import Model.Game.Objects.Card;
+import Model.Game.Objects.Hand;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Strategia base del BlackJack guidata da una tabella di decisioni precalcolata.
+ * La tabella viene caricata da una risorsa testuale compatta (per default
+ * {@value #DEFAULT_RESOURCE}) e compilata in un array di byte indicizzato per
+ * tipo di mano (hard, soft, coppia), totale e carta scoperta del dealer:
+ * ogni decisione del turno si riduce a una o due letture dall'array.
+ *
+ * Caratteristiche principali:
+ * - Segue la tabella per pescata, double down, split e resa
+ * - Non prende mai l'assicurazione
+ * - Le decisioni di resa ricadono sull'azione alternativa quando il tavolo non la consente
+ *
+ * La tabella è immutabile dopo il caricamento e quella di default è condivisa
+ * tra tutte le istanze, che possono quindi essere usate da più thread.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class BasicStrategy implements PlayerStrategy {
+    /** Percorso nel classpath della tabella di default. */
+    public static final String DEFAULT_RESOURCE = "/strategy/basic_strategy.txt";
+
+    private static final int HARD = 0;
+    private static final int SOFT = 1;
+    private static final int PAIR = 2;
+    private static final int SECTIONS = 3;
+    private static final int MAX_TOTAL = 21;
+    private static final int ROWS = MAX_TOTAL + 1;
+    private static final int MIN_UPCARD = 2;
+    private static final int COLUMNS = 10;
+    /** Carta scoperta del dealer usata quando la decisione non la riceve (la più frequente nel sabot). */
+    private static final int DEFAULT_UPCARD = 10;
+
+    private static final byte NONE = 0;
+    private static final byte HIT = 1;
+    private static final byte STAND = 2;
+    private static final byte DOUBLE_OR_HIT = 3;
+    private static final byte DOUBLE_OR_STAND = 4;
+    private static final byte SPLIT = 5;
+    private static final byte SURRENDER_OR_HIT = 6;
+    private static final byte SURRENDER_OR_STAND = 7;
+    private static final byte SURRENDER_OR_SPLIT = 8;
+
+    private final byte[] decisions;
+
+    /**
+     * Costruisce una strategia base che usa la tabella di default.
+     * La tabella viene caricata una sola volta e condivisa tra le istanze.
+     *
+     * @throws IllegalStateException Se la tabella di default non può essere caricata
+     */
+    public BasicStrategy() {
+        this.decisions = DefaultTable.DECISIONS;
+    }
+
+    /**
+     * Costruisce una strategia base caricando la tabella dalla risorsa indicata.
+     *
+     * @param resourcePath Percorso della tabella nel classpath
+     * @throws IllegalStateException Se la risorsa non esiste o non può essere letta
+     * @throws IllegalArgumentException Se la tabella contiene righe non valide
+     */
+    public BasicStrategy(String resourcePath) {
+        this.decisions = load(resourcePath);
+    }
+
+    /**
+     * Decide l'azione con una consultazione della tabella: prima la riga della coppia,
+     * se lo split è consentito, poi la riga del totale hard o soft della mano.
+     *
+     * @param hand La mano da giocare
+     * @param dealerCard La carta scoperta del dealer
+     * @param canSplit true se le regole e il saldo consentono lo split della mano
+     * @param canDoubleDown true se le regole e il saldo consentono il double down
+     * @param canSurrender true se il tavolo consente la resa
+     * @return L'azione indicata dalla tabella
+     */
+    @Override
+    public StrategyAction decide(Hand hand, Card dealerCard, boolean canSplit, boolean canDoubleDown, boolean canSurrender) {
+        int upCard = dealerCard.getValue();
+
+        if (canSplit) {
+            byte pair = decisions[index(PAIR, hand.getCards().get(0).getValue(), upCard)];
+            if (pair == SURRENDER_OR_SPLIT && canSurrender)
+                return StrategyAction.SURRENDER;
+            if (pair == SPLIT || pair == SURRENDER_OR_SPLIT)
+                return StrategyAction.SPLIT;
+        }
+
+        int section = hand.isSoft() ? SOFT : HARD;
+        return resolve(decisions[index(section, Math.min(hand.getValue(), MAX_TOTAL), upCard)], canDoubleDown, canSurrender);
+    }
+
+    /**
+     * Determina se pescare conoscendo solo il valore della mano.
+     * Senza carta del dealer e senza sapere se la mano è soft, consulta la riga hard
+     * contro un 10, la carta scoperta più probabile.
+     *
+     * @param handValue Il valore corrente della mano
+     * @return true se la tabella indica di pescare, false altrimenti
+     */
+    @Override
+    public boolean shouldDraw(int handValue) {
+        if (handValue > MAX_TOTAL) return false;
+        return resolve(decisions[index(HARD, handValue, DEFAULT_UPCARD)], false, false) == StrategyAction.HIT;
+    }
+
+    /**
+     * Non prende mai l'assicurazione, che la strategia base considera sempre sfavorevole.
+     *
+     * @param handValue Il valore corrente della mano del giocatore (non utilizzato)
+     * @param dealerCard La carta scoperta del dealer (non utilizzata)
+     * @return sempre false
+     */
+    @Override
+    public boolean shouldTakeInsurance(int handValue, Card dealerCard) {
+        return false;
+    }
+
+    /**
+     * Fa split quando la riga della coppia lo indica contro la carta del dealer.
+     *
+     * @param card1 La prima carta della coppia
+     * @param card2 La seconda carta della coppia
+     * @param dealerCard La carta scoperta del dealer
+     * @return true se dovrebbe fare split, false altrimenti
+     */
+    @Override
+    public boolean shouldSplitHand(Card card1, Card card2, Card dealerCard) {
+        if (card1.getRank() != card2.getRank()) return false;
+        byte pair = decisions[index(PAIR, card1.getValue(), dealerCard.getValue())];
+        return pair == SPLIT || pair == SURRENDER_OR_SPLIT;
+    }
+
+    /**
+     * Fa double down quando la riga hard del totale lo indica contro la carta del dealer.
+     *
+     * @param handValue Il valore corrente della mano del giocatore
+     * @param dealerCard La carta scoperta del dealer
+     * @return true se dovrebbe fare double down, false altrimenti
+     */
+    @Override
+    public boolean shouldPlayDoubleDown(int handValue, Card dealerCard) {
+        if (handValue > MAX_TOTAL) return false;
+        byte code = decisions[index(HARD, handValue, dealerCard.getValue())];
+        return code == DOUBLE_OR_HIT || code == DOUBLE_OR_STAND;
+    }
+
+    /**
+     * Converte un codice della tabella nell'azione effettiva, ricadendo sull'alternativa
+     * quando double down o resa non sono consentiti.
+     *
+     * @param code Il codice letto dalla tabella
+     * @param canDoubleDown true se il double down è consentito
+     * @param canSurrender true se la resa è consentita
+     * @return L'azione da compiere
+     */
+    private static StrategyAction resolve(byte code, boolean canDoubleDown, boolean canSurrender) {
+        switch (code) {
+            case DOUBLE_OR_HIT: return canDoubleDown ? StrategyAction.DOUBLE_DOWN : StrategyAction.HIT;
+            case DOUBLE_OR_STAND: return canDoubleDown ? StrategyAction.DOUBLE_DOWN : StrategyAction.STAND;
+            case SURRENDER_OR_HIT: return canSurrender ? StrategyAction.SURRENDER : StrategyAction.HIT;
+            case SURRENDER_OR_STAND: return canSurrender ? StrategyAction.SURRENDER : StrategyAction.STAND;
+            case HIT: return StrategyAction.HIT;
+            default: return StrategyAction.STAND;
+        }
+    }
+
+    /**
+     * Calcola la posizione di una decisione nell'array della tabella.
+     *
+     * @param section Sezione della tabella (hard, soft o coppia)
+     * @param total Totale della mano, o valore della carta per le coppie
+     * @param upCard Valore della carta scoperta del dealer (da 2 a 11)
+     * @return Indice nell'array delle decisioni
+     */
+    private static int index(int section, int total, int upCard) {
+        return (section * ROWS + total) * COLUMNS + (upCard - MIN_UPCARD);
+    }
+
+    /**
+     * Carica e compila una tabella dal classpath.
+     * I totali hard e soft non elencati pescano sotto 17 e stanno da 17 in su;
+     * le coppie non elencate non vengono mai divise.
+     *
+     * @param resourcePath Percorso della tabella nel classpath
+     * @return L'array delle decisioni
+     */
+    private static byte[] load(String resourcePath) {
+        byte[] table = new byte[SECTIONS * ROWS * COLUMNS];
+        for (int total = 0; total < ROWS; total++) {
+            byte fallback = total < 17 ? HIT : STAND;
+            for (int upCard = MIN_UPCARD; upCard < MIN_UPCARD + COLUMNS; upCard++) {
+                table[index(HARD, total, upCard)] = fallback;
+                table[index(SOFT, total, upCard)] = fallback;
+            }
+        }
+
+        InputStream input = BasicStrategy.class.getResourceAsStream(resourcePath);
+        if (input == null)
+            throw new IllegalStateException("Tabella della strategia base non trovata: " + resourcePath);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+                parseRow(table, line.split("\\s+"), resourcePath, lineNumber);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Impossibile leggere la tabella della strategia base: " + resourcePath, e);
+        }
+        return table;
+    }
+
+    /**
+     * Compila una riga della tabella nella forma {@code <sezione> <totale> <10 codici>}.
+     *
+     * @param table L'array delle decisioni da riempire
+     * @param tokens I campi della riga
+     * @param resourcePath Percorso della tabella, per i messaggi di errore
+     * @param lineNumber Numero della riga, per i messaggi di errore
+     */
+    private static void parseRow(byte[] table, String[] tokens, String resourcePath, int lineNumber) {
+        String where = resourcePath + ":" + lineNumber;
+        if (tokens.length != COLUMNS + 2)
+            throw new IllegalArgumentException("Attese " + (COLUMNS + 2) + " colonne in " + where);
+
+        int section;
+        switch (tokens[0]) {
+            case "hard": section = HARD; break;
+            case "soft": section = SOFT; break;
+            case "pair": section = PAIR; break;
+            default: throw new IllegalArgumentException("Sezione sconosciuta '" + tokens[0] + "' in " + where);
+        }
+
+        int total;
+        if (section == PAIR && tokens[1].equals("A")) {
+            total = 11;
+        } else {
+            try {
+                total = Integer.parseInt(tokens[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Totale non valido '" + tokens[1] + "' in " + where);
+            }
+        }
+        int minTotal = section == PAIR ? 2 : 4;
+        if (total < minTotal || total > MAX_TOTAL || (section == PAIR && total > 11))
+            throw new IllegalArgumentException("Totale fuori intervallo '" + tokens[1] + "' in " + where);
+
+        for (int column = 0; column < COLUMNS; column++) {
+            byte code = parseCode(tokens[column + 2]);
+            if (code < 0 || (section != PAIR && (code == NONE || code == SPLIT || code == SURRENDER_OR_SPLIT)))
+                throw new IllegalArgumentException("Codice non valido '" + tokens[column + 2] + "' in " + where);
+            table[index(section, total, MIN_UPCARD + column)] = code;
+        }
+    }
+
+    /**
+     * Converte un codice testuale della tabella nel valore compilato.
+     *
+     * @param token Il codice testuale
+     * @return Il codice compilato, o -1 se non riconosciuto
+     */
+    private static byte parseCode(String token) {
+        switch (token) {
+            case "-": return NONE;
+            case "H": return HIT;
+            case "S": return STAND;
+            case "D": return DOUBLE_OR_HIT;
+            case "Ds": return DOUBLE_OR_STAND;
+            case "P": return SPLIT;
+            case "Rh": return SURRENDER_OR_HIT;
+            case "Rs": return SURRENDER_OR_STAND;
+            case "Rp": return SURRENDER_OR_SPLIT;
+            default: return -1;
+        }
+    }
+
+    /**
+     * Contenitore della tabella di default, caricata alla prima istanza creata con il costruttore vuoto.
+     */
+    private static final class DefaultTable {
+        static final byte[] DECISIONS = load(DEFAULT_RESOURCE);
+    }
+}
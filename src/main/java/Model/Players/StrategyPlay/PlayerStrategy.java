@@ -1,10 +1,13 @@
 package Model.Players.StrategyPlay;
 
 import Model.Game.Objects.Card;
+import Model.Game.Objects.Hand;
+import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Interfaccia che definisce le strategie di gioco per i giocatori di BlackJack.
- * Implementata dalle diverse strategie concrete (Conservative, Balanced, Aggressive).
+ * Implementata dalle diverse strategie concrete (Conservative, Balanced, Aggressive, Basic).
  * 
  * @author JBlackJack Team
  * @version 1.0
@@ -29,6 +32,20 @@ public interface PlayerStrategy {
      */
     boolean shouldTakeInsurance(int handValue, Card dealerCard);
 
+    /**
+     * Determina se il giocatore dovrebbe prendere l'assicurazione usando il generatore indicato
+     * per le decisioni casuali, così che un tavolo con generatore inizializzato da un seme sia riproducibile.
+     * L'implementazione di default ignora il generatore.
+     *
+     * @param handValue Il valore corrente della mano del giocatore
+     * @param dealerCard La carta scoperta del dealer
+     * @param random Il generatore del tavolo
+     * @return true se dovrebbe prendere l'assicurazione, false altrimenti
+     */
+    default boolean shouldTakeInsurance(int handValue, Card dealerCard, RandomGenerator random) {
+        return shouldTakeInsurance(handValue, dealerCard);
+    }
+
     /**
      * Determina se il giocatore dovrebbe dividere la mano.
      * 
@@ -48,4 +65,31 @@ public interface PlayerStrategy {
      */
     boolean shouldPlayDoubleDown(int handValue, Card dealerCard);
 
+    /**
+     * Decide l'azione da compiere sulla mano con un'unica chiamata, applicando le stesse priorità
+     * del turno AI: split, poi double down, poi pescata. L'implementazione di default combina
+     * i metodi della strategia; le strategie basate su tabelle possono sovrascriverla
+     * per rispondere con una sola consultazione.
+     * L'assicurazione resta una decisione separata ({@link #shouldTakeInsurance(int, Card)}).
+     *
+     * @param hand La mano da giocare
+     * @param dealerCard La carta scoperta del dealer
+     * @param canSplit true se le regole e il saldo consentono lo split della mano
+     * @param canDoubleDown true se le regole e il saldo consentono il double down
+     * @param canSurrender true se il tavolo consente la resa
+     * @return L'azione scelta, mai {@link StrategyAction#SURRENDER} se la resa non è consentita
+     */
+    default StrategyAction decide(Hand hand, Card dealerCard, boolean canSplit, boolean canDoubleDown, boolean canSurrender) {
+        if (canSplit) {
+            List<Card> cards = hand.getCards();
+            if (shouldSplitHand(cards.get(0), cards.get(1), dealerCard))
+                return StrategyAction.SPLIT;
+        }
+
+        int handValue = hand.getValue();
+        if (canDoubleDown && shouldPlayDoubleDown(handValue, dealerCard))
+            return StrategyAction.DOUBLE_DOWN;
+
+        return shouldDraw(handValue) ? StrategyAction.HIT : StrategyAction.STAND;
+    }
 }
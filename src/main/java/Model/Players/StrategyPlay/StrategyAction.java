@@ -0,0 +1,17 @@
+package Model.Players.StrategyPlay;
+
+/**
+ * Enumerazione delle decisioni che un giocatore può prendere sulla propria mano.
+ * Restituita da {@link PlayerStrategy#decide} per guidare il turno di un giocatore AI.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public enum StrategyAction {
+    HIT,
+    STAND,
+    DOUBLE_DOWN,
+    SPLIT,
+    SURRENDER
+}
@@ -0,0 +1,305 @@
+package Model.Profile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Archivio binario dei profili a record di lunghezza fissa, mappato in memoria.
+ * <p>
+ * Il file contiene un'intestazione, una tabella dei percorsi degli avatar e un record di
+ * {@value #RECORD_SIZE} byte per profilo: hash del nickname, indice dell'avatar nella tabella,
+ * le quattro statistiche e il nickname in UTF-8 a lunghezza fissa (necessario per l'esportazione).
+ * Ogni record si trova a una posizione calcolabile dal suo indice, quindi l'aggiornamento
+ * delle statistiche di un profilo è una scrittura sul posto di 16 byte nella memoria mappata.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+class BinaryProfileStore implements Closeable {
+    private static final int MAGIC = 0x4A424A50;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int MAX_AVATARS = 16;
+    private static final int AVATAR_SLOT_SIZE = 64;
+    private static final int RECORDS_OFFSET = HEADER_SIZE + MAX_AVATARS * AVATAR_SLOT_SIZE;
+    /** Dimensione in byte di un record. */
+    static final int RECORD_SIZE = 64;
+    private static final int STATS_OFFSET = 8;
+    private static final int NICKNAME_OFFSET = 24;
+    /** Lunghezza massima in byte UTF-8 del nickname. */
+    static final int MAX_NICKNAME_BYTES = RECORD_SIZE - NICKNAME_OFFSET - 2;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Path path;
+    private final List<String> avatars;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int recordCount;
+
+    /**
+     * Visitatore dei profili letti dall'archivio.
+     */
+    interface Visitor {
+
+        /**
+         * Riceve un profilo letto dall'archivio.
+         *
+         * @param slot Indice del record del profilo
+         * @param nickname Nickname del profilo
+         * @param avatarPath Percorso dell'avatar
+         * @param stats Statistiche del profilo
+         */
+        void onProfile(int slot, String nickname, String avatarPath, GameStats stats);
+    }
+
+    /**
+     * Costruisce un archivio sul file indicato. Il file viene aperto da {@link #open(Visitor)} o {@link #create()}.
+     *
+     * @param path Percorso del file dell'archivio
+     */
+    BinaryProfileStore(Path path) {
+        this.path = path;
+        this.avatars = new ArrayList<>();
+    }
+
+    /**
+     * Apre un archivio esistente e consegna al visitatore tutti i profili in ordine di record.
+     *
+     * @param visitor Il visitatore a cui consegnare i profili
+     * @throws IOException Se il file non può essere letto o non è un archivio valido
+     */
+    void open(Visitor visitor) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < RECORDS_OFFSET)
+            throw invalid("file troppo corto");
+
+        map((int) Math.max(0, (channel.size() - RECORDS_OFFSET) / RECORD_SIZE));
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+            throw invalid("intestazione non riconosciuta");
+
+        recordCount = buffer.getInt(8);
+        int avatarCount = buffer.getInt(12);
+        if (recordCount < 0 || recordCount > capacity || avatarCount < 0 || avatarCount > MAX_AVATARS)
+            throw invalid("intestazione non coerente");
+
+        for (int i = 0; i < avatarCount; i++)
+            avatars.add(readString(HEADER_SIZE + i * AVATAR_SLOT_SIZE));
+
+        for (int slot = 0; slot < recordCount; slot++) {
+            int offset = recordOffset(slot);
+            String nickname = readString(offset + NICKNAME_OFFSET);
+            if (buffer.getInt(offset) != hash(nickname))
+                throw invalid("record " + slot + " danneggiato");
+
+            int avatarIndex = buffer.getInt(offset + 4);
+            GameStats stats = new GameStats();
+            stats.setTotalHandsPlayed(buffer.getInt(offset + STATS_OFFSET));
+            stats.setHandsWon(buffer.getInt(offset + STATS_OFFSET + 4));
+            stats.setHandsLost(buffer.getInt(offset + STATS_OFFSET + 8));
+            stats.setCurrentBalance(buffer.getInt(offset + STATS_OFFSET + 12));
+            String avatarPath = avatarIndex >= 0 && avatarIndex < avatars.size() ? avatars.get(avatarIndex) : null;
+            visitor.onProfile(slot, nickname, avatarPath, stats);
+        }
+    }
+
+    /**
+     * Crea un archivio vuoto, sostituendo un eventuale file esistente.
+     *
+     * @throws IOException Se il file non può essere creato
+     */
+    void create() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        map(INITIAL_CAPACITY);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, 0);
+        buffer.putInt(12, 0);
+        recordCount = 0;
+    }
+
+    /**
+     * Indica se un profilo può essere memorizzato: il nickname e il percorso dell'avatar
+     * devono rientrare nei campi a lunghezza fissa e la tabella degli avatar non deve essere piena.
+     *
+     * @param nickname Nickname del profilo
+     * @param avatarPath Percorso dell'avatar
+     * @return true se il profilo può essere aggiunto
+     */
+    boolean canStore(String nickname, String avatarPath) {
+        if (nickname.getBytes(StandardCharsets.UTF_8).length > MAX_NICKNAME_BYTES)
+            return false;
+        if (avatarPath == null || avatars.contains(avatarPath))
+            return true;
+        return avatars.size() < MAX_AVATARS && avatarPath.getBytes(StandardCharsets.UTF_8).length <= AVATAR_SLOT_SIZE - 2;
+    }
+
+    /**
+     * Aggiunge un profilo in coda all'archivio.
+     *
+     * @param nickname Nickname del profilo
+     * @param avatarPath Percorso dell'avatar
+     * @param stats Statistiche del profilo
+     * @return Indice del record del profilo
+     * @throws IOException Se il file non può essere esteso
+     * @throws IllegalArgumentException Se il profilo non rientra nel formato (vedi {@link #canStore(String, String)})
+     */
+    int append(String nickname, String avatarPath, GameStats stats) throws IOException {
+        if (!canStore(nickname, avatarPath))
+            throw new IllegalArgumentException("Il profilo " + nickname + " non rientra nel formato binario");
+
+        if (recordCount == capacity)
+            map(capacity * 2);
+
+        int avatarIndex = avatarIndex(avatarPath);
+        int slot = recordCount;
+        int offset = recordOffset(slot);
+        buffer.putInt(offset, hash(nickname));
+        buffer.putInt(offset + 4, avatarIndex);
+        writeStats(slot, stats);
+        writeString(offset + NICKNAME_OFFSET, nickname);
+
+        recordCount++;
+        buffer.putInt(8, recordCount);
+        return slot;
+    }
+
+    /**
+     * Sovrascrive sul posto le statistiche di un record.
+     *
+     * @param slot Indice del record
+     * @param stats Le nuove statistiche
+     */
+    void writeStats(int slot, GameStats stats) {
+        int offset = recordOffset(slot) + STATS_OFFSET;
+        buffer.putInt(offset, stats.getTotalHandsPlayed());
+        buffer.putInt(offset + 4, stats.getHandsWon());
+        buffer.putInt(offset + 8, stats.getHandsLost());
+        buffer.putInt(offset + 12, stats.getCurrentBalance());
+    }
+
+    /**
+     * Rende persistenti le scritture con il livello di durabilità indicato.
+     * Le scritture nella memoria mappata sono già visibili al sistema operativo,
+     * quindi solo {@link Durability#FSYNC} richiede un'operazione.
+     *
+     * @param durability Il livello di durabilità
+     */
+    void sync(Durability durability) {
+        if (durability == Durability.FSYNC)
+            buffer.force();
+    }
+
+    /**
+     * Restituisce il numero di profili nell'archivio.
+     *
+     * @return Numero di record
+     */
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    /**
+     * Mappa in memoria l'intestazione e lo spazio per il numero di record indicato, estendendo il file se necessario.
+     *
+     * @param recordCapacity Numero di record da mappare
+     * @throws IOException Se il file non può essere mappato
+     */
+    private void map(int recordCapacity) throws IOException {
+        capacity = Math.max(recordCapacity, INITIAL_CAPACITY);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, RECORDS_OFFSET + (long) capacity * RECORD_SIZE);
+    }
+
+    /**
+     * Restituisce l'indice di un avatar nella tabella, aggiungendolo se assente.
+     *
+     * @param avatarPath Percorso dell'avatar, o null
+     * @return Indice dell'avatar, -1 se il percorso è null
+     */
+    private int avatarIndex(String avatarPath) {
+        if (avatarPath == null)
+            return -1;
+
+        int index = avatars.indexOf(avatarPath);
+        if (index < 0) {
+            index = avatars.size();
+            avatars.add(avatarPath);
+            writeString(HEADER_SIZE + index * AVATAR_SLOT_SIZE, avatarPath);
+            buffer.putInt(12, avatars.size());
+        }
+        return index;
+    }
+
+    /**
+     * Legge una stringa UTF-8 preceduta dalla sua lunghezza in byte.
+     *
+     * @param offset Posizione della lunghezza
+     * @return La stringa letta
+     */
+    private String readString(int offset) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort(offset))];
+        buffer.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Scrive una stringa UTF-8 preceduta dalla sua lunghezza in byte.
+     *
+     * @param offset Posizione della lunghezza
+     * @param value La stringa da scrivere
+     */
+    private void writeString(int offset, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort(offset, (short) bytes.length);
+        buffer.put(offset + 2, bytes);
+    }
+
+    /**
+     * Restituisce la posizione di un record nel file.
+     *
+     * @param slot Indice del record
+     * @return Posizione in byte
+     */
+    private static int recordOffset(int slot) {
+        return RECORDS_OFFSET + slot * RECORD_SIZE;
+    }
+
+    /**
+     * Calcola l'hash del nickname memorizzato nel record, indipendente da maiuscole e minuscole.
+     *
+     * @param nickname Il nickname
+     * @return L'hash del nickname
+     */
+    private static int hash(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT).hashCode();
+    }
+
+    /**
+     * Crea l'eccezione per un archivio non valido.
+     *
+     * @param reason Il motivo
+     * @return L'eccezione
+     */
+    private IOException invalid(String reason) {
+        return new IOException("Archivio dei profili " + path + " non valido: " + reason);
+    }
+}
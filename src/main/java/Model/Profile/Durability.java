@@ -0,0 +1,18 @@
+package Model.Profile;
+
+/**
+ * Enumerazione dei livelli di durabilità delle scritture dei profili.
+ * Livelli più alti riducono i dati persi in caso di interruzione, a costo di scritture più lente.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public enum Durability {
+    /** I record restano nel buffer dell'applicazione finché non è pieno o il gestore viene chiuso. */
+    NONE,
+    /** I record vengono consegnati al sistema operativo al termine di ogni scrittura. */
+    FLUSH,
+    /** I record vengono forzati sul disco (fsync) al termine di ogni scrittura. */
+    FSYNC
+}
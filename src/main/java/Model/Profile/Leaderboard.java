@@ -0,0 +1,130 @@
+package Model.Profile;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Classifiche dei profili, una per ogni {@link RankingCriterion}, mantenute ordinate in modo incrementale.
+ * Ogni classifica è un albero ordinato di chiavi che fissano il valore della statistica al momento
+ * dell'inserimento, così che un profilo modificato in seguito non alteri l'ordinamento dell'albero:
+ * un aggiornamento rimuove la vecchia chiave e inserisce la nuova in tempo logaritmico,
+ * e i primi N profili si leggono scorrendo l'albero senza riordinare.
+ * A parità di valore precede il profilo registrato per primo.
+ * <p>
+ * La classe non è thread-safe: il {@link ProfileManager} la usa sotto il proprio lock.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class Leaderboard {
+    private static final RankingCriterion[] CRITERIA = RankingCriterion.values();
+
+    private final List<TreeSet<Key>> rankings;
+    private final Map<UserProfile, Key[]> keys;
+    private long nextSequence;
+
+    /**
+     * Chiave di un profilo in una classifica.
+     *
+     * @param value Valore della statistica al momento dell'inserimento
+     * @param sequence Ordine di registrazione del profilo, usato a parità di valore
+     * @param profile Il profilo
+     */
+    private record Key(int value, long sequence, UserProfile profile) {
+    }
+
+    /**
+     * Costruisce classifiche vuote.
+     */
+    public Leaderboard() {
+        this.rankings = new ArrayList<>(CRITERIA.length);
+        for (RankingCriterion criterion : CRITERIA) {
+            Comparator<Key> byValue = Comparator.comparingInt(Key::value);
+            if (criterion.isDescending())
+                byValue = byValue.reversed();
+            rankings.add(new TreeSet<>(byValue.thenComparingLong(Key::sequence)));
+        }
+        this.keys = new IdentityHashMap<>();
+        this.nextSequence = 0;
+    }
+
+    /**
+     * Aggiunge un profilo a tutte le classifiche con le statistiche indicate,
+     * o ne aggiorna la posizione se è già presente.
+     *
+     * @param profile Il profilo
+     * @param stats Le statistiche con cui classificarlo
+     */
+    public void update(UserProfile profile, GameStats stats) {
+        Key[] current = keys.get(profile);
+        if (current == null) {
+            current = new Key[CRITERIA.length];
+            long sequence = nextSequence++;
+            for (RankingCriterion criterion : CRITERIA) {
+                Key key = new Key(criterion.valueOf(stats), sequence, profile);
+                current[criterion.ordinal()] = key;
+                rankings.get(criterion.ordinal()).add(key);
+            }
+            keys.put(profile, current);
+            return;
+        }
+
+        for (RankingCriterion criterion : CRITERIA) {
+            Key old = current[criterion.ordinal()];
+            int value = criterion.valueOf(stats);
+            if (old.value() == value)
+                continue;
+
+            TreeSet<Key> ranking = rankings.get(criterion.ordinal());
+            ranking.remove(old);
+            Key key = new Key(value, old.sequence(), profile);
+            ranking.add(key);
+            current[criterion.ordinal()] = key;
+        }
+    }
+
+    /**
+     * Restituisce i primi profili della classifica indicata, in ordine.
+     *
+     * @param criterion Il criterio di classifica
+     * @param limit Numero massimo di profili da restituire
+     * @return Nuova lista con al più {@code limit} profili
+     * @throws IllegalArgumentException Se il limite è negativo
+     */
+    public List<UserProfile> top(RankingCriterion criterion, int limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException("Il numero di profili non può essere negativo");
+
+        TreeSet<Key> ranking = rankings.get(criterion.ordinal());
+        List<UserProfile> top = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<Key> iterator = ranking.iterator();
+        while (top.size() < limit && iterator.hasNext())
+            top.add(iterator.next().profile());
+        return top;
+    }
+
+    /**
+     * Rimuove tutti i profili dalle classifiche.
+     */
+    public void clear() {
+        for (TreeSet<Key> ranking : rankings)
+            ranking.clear();
+        keys.clear();
+        nextSequence = 0;
+    }
+
+    /**
+     * Restituisce il numero di profili in classifica.
+     *
+     * @return Numero di profili
+     */
+    public int size() {
+        return keys.size();
+    }
+}
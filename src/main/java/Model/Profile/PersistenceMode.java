@@ -0,0 +1,23 @@
+package Model.Profile;
+
+/**
+ * Enumerazione delle modalità di persistenza dei profili del {@link ProfileManager}.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public enum PersistenceMode {
+    /** Ogni modifica riscrive l'intero file JSON dei profili. */
+    JSON,
+    /**
+     * Ogni modifica accoda un record compatto a un journal binario; il journal viene
+     * periodicamente compattato nello snapshot JSON e riapplicato all'avvio.
+     */
+    JOURNAL,
+    /**
+     * I profili risiedono in un archivio binario a record di lunghezza fissa, mappato in memoria:
+     * ogni aggiornamento sovrascrive sul posto le statistiche del profilo.
+     */
+    BINARY
+}
@@ -0,0 +1,256 @@
+package Model.Profile;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Journal binario append-only delle modifiche ai profili.
+ * Ogni creazione di profilo e ogni aggiornamento di statistiche viene accodato come record compatto
+ * (tipo, nickname e variazioni delle quattro statistiche), così che il costo di scrittura per round
+ * sia costante invece di riscrivere l'intero file dei profili.
+ * <p>
+ * Il journal inizia con un'intestazione che riporta la generazione dello snapshot a cui si applica:
+ * dopo una compattazione lo snapshot ha generazione maggiore e un journal rimasto con la generazione
+ * precedente viene ignorato, quindi le variazioni non vengono mai applicate due volte.
+ * Un record troncato in coda (ad esempio per un'interruzione durante la scrittura) viene scartato alla riapertura.
+ * <p>
+ * I record vengono accumulati in un buffer e resi persistenti da {@link #sync(Durability)}
+ * con il livello di durabilità richiesto.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+class ProfileJournal implements Closeable {
+    private static final int MAGIC = 0x4A424A4C;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final byte CREATE = 1;
+    private static final byte STATS = 2;
+
+    private final Path path;
+    private FileChannel channel;
+    private DataOutputStream output;
+    private long generation;
+    private int recordCount;
+
+    /**
+     * Visitatore dei record letti durante il replay del journal.
+     */
+    interface Visitor {
+
+        /**
+         * Applica la creazione di un profilo.
+         *
+         * @param nickname Nickname del profilo
+         * @param avatarPath Percorso dell'avatar
+         */
+        void onCreate(String nickname, String avatarPath);
+
+        /**
+         * Applica una variazione delle statistiche di un profilo.
+         *
+         * @param nickname Nickname del profilo
+         * @param handsPlayed Variazione delle mani giocate
+         * @param handsWon Variazione delle mani vinte
+         * @param handsLost Variazione delle mani perse
+         * @param balance Variazione del saldo
+         */
+        void onStats(String nickname, int handsPlayed, int handsWon, int handsLost, int balance);
+    }
+
+    /**
+     * Costruisce un journal sul file indicato. Il file viene aperto da {@link #open(long, Visitor)}.
+     *
+     * @param path Percorso del file di journal
+     */
+    ProfileJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Apre il journal per l'aggiunta di record, riapplicando prima quelli già presenti.
+     * I record vengono riapplicati solo se il journal appartiene alla generazione dello snapshot caricato;
+     * in caso contrario, o se il file non esiste o non è valido, il journal viene ricreato vuoto.
+     *
+     * @param snapshotGeneration Generazione dello snapshot già caricato
+     * @param visitor Il visitatore a cui consegnare i record da riapplicare
+     * @return Numero di record riapplicati
+     * @throws IOException Se il file non può essere letto o scritto
+     */
+    int open(long snapshotGeneration, Visitor visitor) throws IOException {
+        int replayed = 0;
+        long validLength = -1;
+
+        if (Files.exists(path)) {
+            byte[] data = Files.readAllBytes(path);
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(data));
+            if (data.length >= HEADER_SIZE && input.readInt() == MAGIC && input.readInt() == VERSION
+                    && input.readLong() == snapshotGeneration) {
+                validLength = HEADER_SIZE;
+                while (input.available() > 0) {
+                    try {
+                        replayRecord(input, visitor);
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    replayed++;
+                    validLength = data.length - input.available();
+                }
+            }
+        }
+
+        this.generation = snapshotGeneration;
+        if (validLength < 0) {
+            reset(snapshotGeneration);
+        } else {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+            this.recordCount = replayed;
+            this.output = openAppend();
+        }
+        return replayed;
+    }
+
+    /**
+     * Legge un record e lo consegna al visitatore.
+     *
+     * @param input Il flusso posizionato all'inizio del record
+     * @param visitor Il visitatore
+     * @throws IOException Se il record è troncato o di tipo sconosciuto
+     */
+    private static void replayRecord(DataInputStream input, Visitor visitor) throws IOException {
+        byte type = input.readByte();
+        if (type == CREATE) {
+            String nickname = input.readUTF();
+            String avatarPath = input.readUTF();
+            visitor.onCreate(nickname, avatarPath);
+        } else if (type == STATS) {
+            String nickname = input.readUTF();
+            int handsPlayed = input.readInt();
+            int handsWon = input.readInt();
+            int handsLost = input.readInt();
+            int balance = input.readInt();
+            visitor.onStats(nickname, handsPlayed, handsWon, handsLost, balance);
+        } else {
+            throw new EOFException("Tipo di record sconosciuto: " + type);
+        }
+    }
+
+    /**
+     * Accoda la creazione di un profilo.
+     *
+     * @param nickname Nickname del profilo
+     * @param avatarPath Percorso dell'avatar
+     * @throws IOException Se il record non può essere scritto
+     */
+    void appendCreate(String nickname, String avatarPath) throws IOException {
+        output.writeByte(CREATE);
+        output.writeUTF(nickname);
+        output.writeUTF(avatarPath);
+        recordCount++;
+    }
+
+    /**
+     * Accoda una variazione delle statistiche di un profilo.
+     *
+     * @param nickname Nickname del profilo
+     * @param handsPlayed Variazione delle mani giocate
+     * @param handsWon Variazione delle mani vinte
+     * @param handsLost Variazione delle mani perse
+     * @param balance Variazione del saldo
+     * @throws IOException Se il record non può essere scritto
+     */
+    void appendStats(String nickname, int handsPlayed, int handsWon, int handsLost, int balance) throws IOException {
+        output.writeByte(STATS);
+        output.writeUTF(nickname);
+        output.writeInt(handsPlayed);
+        output.writeInt(handsWon);
+        output.writeInt(handsLost);
+        output.writeInt(balance);
+        recordCount++;
+    }
+
+    /**
+     * Rende persistenti i record accodati con il livello di durabilità indicato.
+     *
+     * @param durability Il livello di durabilità
+     * @throws IOException Se i record non possono essere scritti
+     */
+    void sync(Durability durability) throws IOException {
+        if (durability == Durability.NONE)
+            return;
+
+        output.flush();
+        if (durability == Durability.FSYNC)
+            channel.force(false);
+    }
+
+    /**
+     * Svuota il journal e lo associa a una nuova generazione di snapshot.
+     * Va chiamato dopo che lo snapshot della nuova generazione è stato scritto.
+     *
+     * @param newGeneration Generazione dello snapshot appena scritto
+     * @throws IOException Se il file non può essere riscritto
+     */
+    void reset(long newGeneration) throws IOException {
+        close();
+        try (DataOutputStream header = new DataOutputStream(Files.newOutputStream(path))) {
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+            header.writeLong(newGeneration);
+        }
+        this.generation = newGeneration;
+        this.recordCount = 0;
+        this.output = openAppend();
+    }
+
+    /**
+     * Apre il file in aggiunta con un buffer.
+     *
+     * @return Il flusso di scrittura in coda al file
+     * @throws IOException Se il file non può essere aperto
+     */
+    private DataOutputStream openAppend() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+    }
+
+    /**
+     * Restituisce il numero di record accodati dall'ultima compattazione.
+     *
+     * @return Numero di record nel journal
+     */
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Restituisce la generazione dello snapshot a cui il journal si applica.
+     *
+     * @return La generazione corrente
+     */
+    long getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (output != null) {
+            output.close();
+            output = null;
+            channel = null;
+        }
+    }
+}
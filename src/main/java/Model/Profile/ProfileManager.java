@@ -1,17 +1,46 @@
 package Model.Profile;
 
 import Utility.LoggerUtility;
-import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Gestore centralizzato per la persistenza e gestione dei profili utente nel gioco BlackJack.
  * Implementa il pattern Singleton per garantire un'unica istanza di gestione dei profili
  * e fornisce operazioni CRUD complete per i profili utente utilizzando JSON come formato di storage.
+ *
+ * <p>Il file JSON viene letto e scritto in streaming: i profili vengono costruiti direttamente
+ * dal flusso, senza un albero JSON intermedio, e possono essere caricati al primo accesso
+ * invece che alla costruzione.</p>
+ *
+ * <p>In modalità {@link PersistenceMode#JOURNAL} (quella di default) le modifiche non riscrivono il file JSON:
+ * vengono accodate a un journal binario accanto allo snapshot ({@code players.journal}), riapplicato
+ * all'avvio e compattato nello snapshot ogni {@value #COMPACTION_THRESHOLD} record.
+ * In modalità {@link PersistenceMode#JSON} ogni modifica riscrive l'intero file.
+ * In modalità {@link PersistenceMode#BINARY} i profili risiedono in un archivio binario a record fissi
+ * ({@code players.dat}), importato dal file JSON alla prima apertura ed esportabile con {@link #exportJson(String)}.</p>
+ *
+ * <p>I profili sono indicizzati per nickname senza distinzione tra maiuscole e minuscole:
+ * accesso, creazione e aggiornamento non scorrono la lista dei profili.
+ * Le classifiche sono mantenute da una {@link Leaderboard} aggiornata a ogni modifica persistita.</p>
+ *
+ * <p>I metodi pubblici sono sincronizzati, così che il gestore possa essere usato
+ * contemporaneamente dall'interfaccia e da un {@link ProfileWriter} in background.</p>
  * 
  * @author JBlackJack Team
  * @version 1.0
@@ -21,30 +50,74 @@ import java.util.List;
 public class ProfileManager {
     private static final LoggerUtility LOGGER = new LoggerUtility();
     private static final String PROFILE_PATH = "src/main/resources/players.json";
-    private final Gson gson;
-    private JsonArray profilesArray;
-    private List<UserProfile> profiles;
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String BINARY_EXTENSION = ".dat";
+    private static final String GENERATION_KEY = "journalGeneration";
+    /** Numero di record del journal oltre il quale il journal viene compattato nello snapshot JSON. */
+    public static final int COMPACTION_THRESHOLD = 1000;
+    private final Path profilePath;
+    private final PersistenceMode persistenceMode;
+    private ProfileJournal journal;
+    private BinaryProfileStore store;
+    private long snapshotGeneration;
+    private boolean loaded;
+    private final List<UserProfile> profiles;
+    private final List<IndexEntry> entries;
+    private final Map<String, IndexEntry> index;
+    private final Leaderboard leaderboard;
     private static ProfileManager instance;
 
+    /**
+     * Voce dell'indice dei profili: il profilo in memoria e le statistiche persistite per ultime,
+     * rispetto alle quali vengono calcolate le variazioni scritte nel journal e che vengono scritte nello snapshot.
+     *
+     * @param profile Il profilo in memoria
+     * @param persistedStats Le ultime statistiche persistite del profilo
+     * @param slot Posizione del profilo nel file, che è anche l'indice del suo record nell'archivio binario
+     */
+    private record IndexEntry(UserProfile profile, GameStats persistedStats, int slot) {
+    }
+
     /**
      * Costruttore privato per implementare il pattern Singleton.
-     * Inizializza il Gson configurato per pretty printing, le strutture dati
-     * e avvia il caricamento automatico dei profili esistenti.
-     * 
-     * <p>Durante l'inizializzazione:</p>
-     * <ul>
-     * <li>Configura Gson con pretty printing per leggibilità del JSON</li>
-     * <li>Inizializza le liste per profili in memoria e JSON</li>
-     * <li>Carica automaticamente tutti i profili esistenti dal file</li>
-     * </ul>
+     * Inizializza le strutture dati; i profili esistenti vengono caricati al primo accesso.
      * 
      * @see #loadProfiles()
      */
     public ProfileManager() {
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
-        profiles = new ArrayList<>();
-        profilesArray = new JsonArray();
-        loadProfiles();
+        this(PROFILE_PATH, PersistenceMode.JOURNAL, true);
+    }
+
+    /**
+     * Costruisce un gestore dei profili sul file e con la modalità di persistenza indicati,
+     * caricando subito i profili.
+     *
+     * @param profilePath Percorso del file JSON dei profili
+     * @param persistenceMode Modalità di persistenza delle modifiche
+     */
+    public ProfileManager(String profilePath, PersistenceMode persistenceMode) {
+        this(profilePath, persistenceMode, false);
+    }
+
+    /**
+     * Costruisce un gestore dei profili sul file e con la modalità di persistenza indicati.
+     * In modalità journal, il journal viene riaperto e riapplicato dopo il caricamento dello snapshot
+     * e, se conteneva record, compattato subito nello snapshot.
+     *
+     * @param profilePath Percorso del file JSON dei profili
+     * @param persistenceMode Modalità di persistenza delle modifiche
+     * @param lazy true per caricare i profili al primo accesso invece che alla costruzione
+     */
+    public ProfileManager(String profilePath, PersistenceMode persistenceMode, boolean lazy) {
+        this.profilePath = Paths.get(profilePath);
+        this.persistenceMode = persistenceMode;
+        this.profiles = new ArrayList<>();
+        this.entries = new ArrayList<>();
+        this.index = new HashMap<>();
+        this.leaderboard = new Leaderboard();
+        this.loaded = false;
+        if (!lazy)
+            ensureLoaded();
     }
 
     /**
@@ -52,71 +125,452 @@ public class ProfileManager {
      * Implementa il pattern Singleton con inizializzazione lazy per garantire
      * che esista un'unica istanza di gestione profili nell'applicazione.
      * 
-     * <p><strong>Nota:</strong> Questo metodo non è thread-safe. Se è richiesto
-     * accesso concorrente, sincronizzare esternamente.</p>
-     * 
      * @return L'istanza singleton del ProfileManager, mai null
      * @since 1.0
      */
-    public static ProfileManager getInstance() {
+    public static synchronized ProfileManager getInstance() {
         if (instance == null)
             instance = new ProfileManager();
 
         return instance;
     }
 
+    /**
+     * Carica i profili e, in modalità journal, riapre il journal, se non è già stato fatto.
+     * In modalità binaria i profili vengono letti dall'archivio binario.
+     */
+    private void ensureLoaded() {
+        if (loaded)
+            return;
+
+        loaded = true;
+        if (persistenceMode == PersistenceMode.BINARY) {
+            openBinaryStore();
+            return;
+        }
+
+        loadProfiles();
+        if (persistenceMode == PersistenceMode.JOURNAL)
+            openJournal();
+    }
+
     /**
      * Carica tutti i profili utente dal file JSON specificato.
-     * Legge il file JSON, deserializza i dati e popola sia la lista in memoria
-     * che l'array JSON per le successive operazioni di scrittura.
+     * Legge il file in streaming e costruisce i profili direttamente dal flusso,
+     * senza tenere in memoria il documento JSON.
      */
     private void loadProfiles() {
-        LOGGER.logInfo("Caricamento profili dal file: " + PROFILE_PATH);
+        LOGGER.logInfo("Caricamento profili dal file: " + profilePath);
         try {
-            String content = new String(Files.readAllBytes(Paths.get(PROFILE_PATH)));
-            JsonObject rootObject = JsonParser.parseString(content).getAsJsonObject();
-            profilesArray = rootObject.getAsJsonArray("users");
-            LOGGER.logInfo("Trovati " + profilesArray.size() + " profili");
-
-            for (JsonElement element : profilesArray) {
-                JsonObject profileObject = element.getAsJsonObject();
-                UserProfile profile = new UserProfile();
-                profile.setNickname(profileObject.get("nickname").getAsString());
-                profile.setAvatarPath(profileObject.get("avatarUrl").getAsString());
-                JsonObject statsObject = profileObject.getAsJsonObject("stats");
-                GameStats stats = new GameStats();
-                stats.setTotalHandsPlayed(statsObject.get("totalHandsPlayed").getAsInt());
-                stats.setHandsWon(statsObject.get("handsWon").getAsInt());
-                stats.setHandsLost(statsObject.get("handsLost").getAsInt());
-                stats.setCurrentBalance(statsObject.get("currentBalance").getAsInt());
-
-                profile.setStats(stats);
-                profiles.add(profile);
+            snapshotGeneration = readJson(profilePath, this::registerProfile);
+            LOGGER.logInfo("Trovati " + profiles.size() + " profili");
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.logError(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Legge in streaming un file JSON di profili e consegna ogni profilo al consumatore.
+     *
+     * @param path Il file da leggere
+     * @param consumer Il consumatore dei profili letti
+     * @return La generazione dello snapshot riportata nel file, 0 se assente
+     * @throws IOException Se il file non può essere letto
+     * @throws IllegalStateException Se il documento non ha la struttura attesa
+     */
+    private static long readJson(Path path, Consumer<UserProfile> consumer) throws IOException {
+        long generation = 0;
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals(GENERATION_KEY)) {
+                    generation = reader.nextLong();
+                } else if (name.equals("users")) {
+                    reader.beginArray();
+                    while (reader.hasNext())
+                        consumer.accept(readProfile(reader));
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        return generation;
+    }
+
+    /**
+     * Legge un profilo dal flusso JSON.
+     *
+     * @param reader Il lettore posizionato all'inizio dell'oggetto del profilo
+     * @return Il profilo letto
+     * @throws IOException Se il flusso non è valido
+     */
+    private static UserProfile readProfile(JsonReader reader) throws IOException {
+        UserProfile profile = new UserProfile();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nickname" -> profile.setNickname(reader.nextString());
+                case "avatarUrl" -> profile.setAvatarPath(reader.nextString());
+                case "stats" -> profile.setStats(readStats(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return profile;
+    }
+
+    /**
+     * Legge le statistiche di un profilo dal flusso JSON.
+     *
+     * @param reader Il lettore posizionato all'inizio dell'oggetto delle statistiche
+     * @return Le statistiche lette
+     * @throws IOException Se il flusso non è valido
+     */
+    private static GameStats readStats(JsonReader reader) throws IOException {
+        GameStats stats = new GameStats();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "totalHandsPlayed" -> stats.setTotalHandsPlayed(reader.nextInt());
+                case "handsWon" -> stats.setHandsWon(reader.nextInt());
+                case "handsLost" -> stats.setHandsLost(reader.nextInt());
+                case "currentBalance" -> stats.setCurrentBalance(reader.nextInt());
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return stats;
+    }
+
+    /**
+     * Riapre il journal accanto allo snapshot e riapplica le modifiche non ancora compattate.
+     * Se il journal non può essere aperto, la gestione prosegue riscrivendo il file JSON a ogni modifica.
+     */
+    private void openJournal() {
+        journal = new ProfileJournal(siblingPath(JOURNAL_EXTENSION));
+
+        try {
+            int replayed = journal.open(snapshotGeneration, new ProfileJournal.Visitor() {
+                @Override
+                public void onCreate(String nickname, String avatarPath) {
+                    addProfile(nickname, avatarPath);
+                }
+
+                @Override
+                public void onStats(String nickname, int handsPlayed, int handsWon, int handsLost, int balance) {
+                    applyStatsDelta(nickname, handsPlayed, handsWon, handsLost, balance);
+                }
+            });
+            if (replayed > 0) {
+                LOGGER.logInfo("Riapplicati " + replayed + " record dal journal dei profili");
+                compact(Durability.FLUSH);
             }
         } catch (IOException e) {
+            LOGGER.logError("Impossibile aprire il journal dei profili: " + e.getMessage(), e);
+            journal = null;
+        }
+    }
+
+    /**
+     * Apre l'archivio binario accanto al file JSON e ne carica i profili.
+     * Se l'archivio non esiste viene creato importando i profili dal file JSON.
+     * Se non può essere aperto, viene messo da parte e la gestione prosegue sul file JSON.
+     */
+    private void openBinaryStore() {
+        Path storePath = siblingPath(BINARY_EXTENSION);
+        store = new BinaryProfileStore(storePath);
+        try {
+            if (Files.exists(storePath)) {
+                LOGGER.logInfo("Caricamento profili dall'archivio: " + storePath);
+                store.open((slot, nickname, avatarPath, stats) -> registerProfile(new UserProfile(nickname, avatarPath, stats)));
+                LOGGER.logInfo("Trovati " + profiles.size() + " profili");
+            } else {
+                store.create();
+                importProfilesIntoStore();
+                store.sync(Durability.FLUSH);
+                LOGGER.logInfo("Importati " + entries.size() + " profili nell'archivio: " + storePath);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.logError("Impossibile aprire l'archivio dei profili: " + e.getMessage(), e);
+            abandonStoreAndReload();
+        }
+    }
+
+    /**
+     * Carica i profili dal file JSON aggiungendoli all'archivio appena creato, così che la posizione
+     * di ogni profilo coincida con il suo record. I profili che non rientrano nel formato binario
+     * vengono ignorati e segnalati, come in {@link #importJson(String)}.
+     *
+     * @throws UncheckedIOException Se l'archivio non può essere esteso
+     */
+    private void importProfilesIntoStore() {
+        LOGGER.logInfo("Caricamento profili dal file: " + profilePath);
+        try {
+            snapshotGeneration = readJson(profilePath, profile -> {
+                if (!store.canStore(profile.getNickname(), profile.getAvatarPath())) {
+                    LOGGER.logWarning("Profilo " + profile.getNickname() + " non memorizzabile nell'archivio binario, ignorato");
+                    return;
+                }
+                try {
+                    store.append(profile.getNickname(), profile.getAvatarPath(), profile.getStats());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                registerProfile(profile);
+            });
+        } catch (IOException | IllegalStateException e) {
             LOGGER.logError(e.getMessage(), e);
         }
     }
 
     /**
-     * Salva tutti i profili correnti nel file JSON.
-     * Serializza l'array JSON dei profili e lo scrive nel file specificato
-     * utilizzando pretty printing per migliorare la leggibilità.
+     * Mette da parte l'archivio dopo un errore e ricarica i profili dal file JSON.
+     */
+    private void abandonStoreAndReload() {
+        abandonStore();
+        profiles.clear();
+        entries.clear();
+        index.clear();
+        leaderboard.clear();
+        loadProfiles();
+    }
+
+    /**
+     * Chiude l'archivio binario dopo un errore e lo rinomina, così che al prossimo avvio
+     * venga ricreato dal file JSON; da questo momento le modifiche riscrivono il file JSON.
      */
-    private void saveToJson() {
+    private void abandonStore() {
+        Path storePath = siblingPath(BINARY_EXTENSION);
         try {
-            JsonObject rootObject = new JsonObject();
-            rootObject.add("users", profilesArray);
-            Files.write(Paths.get(PROFILE_PATH), gson.toJson(rootObject).getBytes());
+            store.close();
+            if (Files.exists(storePath))
+                Files.move(storePath, storePath.resolveSibling(storePath.getFileName() + ".bad"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.logError("Impossibile mettere da parte l'archivio dei profili: " + e.getMessage(), e);
+        }
+        store = null;
+    }
+
+    /**
+     * Restituisce il percorso di un file accanto al file JSON, con lo stesso nome e l'estensione indicata.
+     *
+     * @param extension L'estensione, punto incluso
+     * @return Il percorso del file
+     */
+    private Path siblingPath(String extension) {
+        String fileName = profilePath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return profilePath.resolveSibling(baseName + extension);
+    }
+
+    /**
+     * Salva tutti i profili nel file JSON, con le loro ultime statistiche persistite.
+     *
+     * @param durability Il livello di durabilità; con {@link Durability#FSYNC} il file viene forzato su disco prima della sostituzione
+     * @return true se il file è stato scritto, false altrimenti
+     */
+    private boolean saveToJson(Durability durability) {
+        return writeJson(profilePath, durability);
+    }
+
+    /**
+     * Scrive tutti i profili in un file JSON, con le loro ultime statistiche persistite.
+     * Il documento viene scritto in streaming con pretty printing per migliorare la leggibilità.
+     * Il file viene scritto accanto e poi sostituito, così che una scrittura interrotta non lo corrompa.
+     *
+     * @param target Il file da scrivere
+     * @param durability Il livello di durabilità; con {@link Durability#FSYNC} il file viene forzato su disco prima della sostituzione
+     * @return true se il file è stato scritto, false altrimenti
+     */
+    private boolean writeJson(Path target, Durability durability) {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(temporary, StandardCharsets.UTF_8))) {
+                writer.setIndent("  ");
+                writer.beginObject();
+                writer.name(GENERATION_KEY).value(snapshotGeneration);
+                writer.name("users").beginArray();
+                for (IndexEntry entry : entries)
+                    writeProfile(writer, entry);
+                writer.endArray();
+                writer.endObject();
+            }
+            if (durability == Durability.FSYNC) {
+                try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
         } catch (IOException e) {
             LOGGER.logError(e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Scrive un profilo nel flusso JSON.
+     *
+     * @param writer Lo scrittore JSON
+     * @param entry La voce del profilo da scrivere
+     * @throws IOException Se la scrittura fallisce
+     */
+    private static void writeProfile(JsonWriter writer, IndexEntry entry) throws IOException {
+        GameStats stats = entry.persistedStats();
+        writer.beginObject();
+        writer.name("nickname").value(entry.profile().getNickname());
+        writer.name("avatarUrl").value(entry.profile().getAvatarPath());
+        writer.name("stats").beginObject();
+        writer.name("totalHandsPlayed").value(stats.getTotalHandsPlayed());
+        writer.name("handsWon").value(stats.getHandsWon());
+        writer.name("handsLost").value(stats.getHandsLost());
+        writer.name("currentBalance").value(stats.getCurrentBalance());
+        writer.endObject();
+        writer.endObject();
+    }
+
+    /**
+     * Compatta il journal: scrive uno snapshot JSON di una nuova generazione e svuota il journal.
+     * Se lo snapshot non viene scritto, il journal resta invariato.
+     *
+     * @param durability Il livello di durabilità dello snapshot e del nuovo journal
+     */
+    private void compact(Durability durability) {
+        snapshotGeneration++;
+        if (!saveToJson(durability)) {
+            snapshotGeneration--;
+            return;
+        }
+
+        try {
+            journal.reset(snapshotGeneration);
+            journal.sync(durability);
+        } catch (IOException e) {
+            LOGGER.logError("Impossibile svuotare il journal dei profili: " + e.getMessage(), e);
+            journal = null;
+        }
+    }
+
+    /**
+     * Rende persistenti le modifiche in memoria secondo la modalità di persistenza:
+     * riscrive il file JSON oppure sincronizza il journal, compattandolo quando supera la soglia di record.
+     *
+     * @param durability Il livello di durabilità richiesto
+     */
+    private void commit(Durability durability) {
+        if (store != null) {
+            store.sync(durability);
+            return;
+        }
+
+        if (journal == null) {
+            saveToJson(durability);
+            return;
+        }
+
+        if (journal.getRecordCount() >= COMPACTION_THRESHOLD) {
+            compact(durability);
+            return;
+        }
+
+        try {
+            journal.sync(durability);
+        } catch (IOException e) {
+            LOGGER.logError("Scrittura nel journal fallita, salvataggio completo: " + e.getMessage(), e);
+            compact(durability);
+        }
+    }
+
+    /**
+     * Registra un profilo in memoria: lo aggiunge alla lista, alle voci da salvare e all'indice.
+     * Un profilo con lo stesso nickname di uno già registrato viene conservato ma non indicizzato.
+     *
+     * @param profile Il profilo da registrare
+     */
+    private void registerProfile(UserProfile profile) {
+        GameStats persistedStats = new GameStats();
+        copyStats(profile.getStats(), persistedStats);
+        IndexEntry entry = new IndexEntry(profile, persistedStats, entries.size());
+
+        profiles.add(profile);
+        entries.add(entry);
+        index.putIfAbsent(indexKey(profile.getNickname()), entry);
+        leaderboard.update(profile, persistedStats);
+    }
+
+    /**
+     * Aggiunge un nuovo profilo con statistiche iniziali.
+     *
+     * @param nickname Nickname del profilo
+     * @param avatarPath Percorso dell'avatar
+     * @return Il profilo aggiunto
+     */
+    private UserProfile addProfile(String nickname, String avatarPath) {
+        UserProfile newProfile = new UserProfile();
+        newProfile.setNickname(nickname);
+        newProfile.setAvatarPath(avatarPath);
+        newProfile.setStats(new GameStats());
+
+        registerProfile(newProfile);
+        return newProfile;
+    }
+
+    /**
+     * Applica a un profilo una variazione di statistiche letta dal journal.
+     *
+     * @param nickname Nickname del profilo
+     * @param handsPlayed Variazione delle mani giocate
+     * @param handsWon Variazione delle mani vinte
+     * @param handsLost Variazione delle mani perse
+     * @param balance Variazione del saldo
+     */
+    private void applyStatsDelta(String nickname, int handsPlayed, int handsWon, int handsLost, int balance) {
+        IndexEntry entry = index.get(indexKey(nickname));
+        if (entry == null) {
+            LOGGER.logWarning("Record del journal per un profilo inesistente: " + nickname);
+            return;
         }
+
+        GameStats persisted = entry.persistedStats();
+        persisted.setTotalHandsPlayed(persisted.getTotalHandsPlayed() + handsPlayed);
+        persisted.setHandsWon(persisted.getHandsWon() + handsWon);
+        persisted.setHandsLost(persisted.getHandsLost() + handsLost);
+        persisted.setCurrentBalance(persisted.getCurrentBalance() + balance);
+        copyStats(persisted, entry.profile().getStats());
+        leaderboard.update(entry.profile(), persisted);
+    }
+
+    /**
+     * Copia i valori di un oggetto di statistiche in un altro.
+     *
+     * @param source Le statistiche da copiare
+     * @param target Le statistiche da sovrascrivere
+     */
+    private static void copyStats(GameStats source, GameStats target) {
+        target.setTotalHandsPlayed(source.getTotalHandsPlayed());
+        target.setHandsWon(source.getHandsWon());
+        target.setHandsLost(source.getHandsLost());
+        target.setCurrentBalance(source.getCurrentBalance());
+    }
+
+    /**
+     * Restituisce la chiave dell'indice per un nickname, indipendente da maiuscole e minuscole.
+     *
+     * @param nickname Il nickname
+     * @return La chiave dell'indice
+     */
+    private static String indexKey(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
     }
 
     /**
      * Crea un nuovo profilo utente con nickname e avatar specificati.
-     * Verifica l'unicità del nickname, crea il profilo con statistiche iniziali
-     * di default e lo persiste sia in memoria che su file JSON.
+     * Verifica l'unicità del nickname (senza distinzione tra maiuscole e minuscole), crea il profilo con statistiche iniziali
+     * di default e lo persiste sia in memoria che su file.
      * 
      * @param nickname Il nickname univoco per il nuovo profilo.
      *                 Non deve essere già esistente nel sistema.
@@ -128,43 +582,108 @@ public class ProfileManager {
      * 
      * @since 1.0
      */
-    public UserProfile createProfile(String nickname, String avatarPath) {
-        for (UserProfile profile : profiles) {
-            if (profile.getNickname().equals(nickname)) {
-                LOGGER.logWarning("Profilo " + nickname + " già esistente, scegliere un nickname diverso");
-                return null;
-            }
+    public synchronized UserProfile createProfile(String nickname, String avatarPath) {
+        ensureLoaded();
+        if (index.containsKey(indexKey(nickname))) {
+            LOGGER.logWarning("Profilo " + nickname + " già esistente, scegliere un nickname diverso");
+            return null;
         }
 
-        UserProfile newProfile = new UserProfile();
-        newProfile.setNickname(nickname);
-        newProfile.setAvatarPath(avatarPath);
-        newProfile.setStats(new GameStats());
+        if (store != null && !store.canStore(nickname, avatarPath)) {
+            LOGGER.logWarning("Profilo " + nickname + " non memorizzabile nell'archivio binario, scegliere un nickname più corto");
+            return null;
+        }
 
-        profiles.add(newProfile);
+        UserProfile newProfile = addProfile(nickname, avatarPath);
+        persistNewProfile(newProfile);
+        commit(Durability.FLUSH);
+        LOGGER.logInfo("Profilo " + newProfile.getNickname() + " creato con successo");
+        return newProfile;
+    }
 
-        // Crea e aggiungi al JsonArray
-        JsonObject profileObject = new JsonObject();
-        profileObject.addProperty("nickname", newProfile.getNickname());
-        profileObject.addProperty("avatarUrl", newProfile.getAvatarPath());
+    /**
+     * Registra un profilo appena aggiunto secondo la modalità di persistenza:
+     * un record nell'archivio binario o un record di creazione (seguito dalle statistiche, se diverse
+     * da quelle iniziali) nel journal. In modalità JSON il profilo viene scritto da {@link #commit(Durability)}.
+     *
+     * @param profile Il profilo aggiunto
+     */
+    private void persistNewProfile(UserProfile profile) {
+        IndexEntry entry = index.get(indexKey(profile.getNickname()));
+        GameStats stats = entry.persistedStats();
+        if (store != null) {
+            try {
+                store.append(profile.getNickname(), profile.getAvatarPath(), stats);
+            } catch (IOException e) {
+                LOGGER.logError("Scrittura nell'archivio dei profili fallita, salvataggio su JSON: " + e.getMessage(), e);
+                abandonStore();
+            }
+        } else if (journal != null) {
+            GameStats initial = new GameStats();
+            int handsPlayed = stats.getTotalHandsPlayed() - initial.getTotalHandsPlayed();
+            int handsWon = stats.getHandsWon() - initial.getHandsWon();
+            int handsLost = stats.getHandsLost() - initial.getHandsLost();
+            int balance = stats.getCurrentBalance() - initial.getCurrentBalance();
+            try {
+                journal.appendCreate(profile.getNickname(), profile.getAvatarPath());
+                if (handsPlayed != 0 || handsWon != 0 || handsLost != 0 || balance != 0)
+                    journal.appendStats(profile.getNickname(), handsPlayed, handsWon, handsLost, balance);
+            } catch (IOException e) {
+                LOGGER.logError("Scrittura nel journal fallita, salvataggio completo: " + e.getMessage(), e);
+                compact(Durability.FLUSH);
+            }
+        }
+    }
 
-        JsonObject statsObject = new JsonObject();
-        statsObject.addProperty("totalHandsPlayed", newProfile.getStats().getTotalHandsPlayed());
-        statsObject.addProperty("handsWon", newProfile.getStats().getHandsWon());
-        statsObject.addProperty("handsLost", newProfile.getStats().getHandsLost());
-        statsObject.addProperty("currentBalance", newProfile.getStats().getCurrentBalance());
+    /**
+     * Importa i profili da un file JSON nel formato di {@code players.json}.
+     * I profili con un nickname già presente vengono ignorati; gli altri vengono aggiunti
+     * con le loro statistiche e persistiti secondo la modalità corrente.
+     *
+     * @param jsonPath Percorso del file JSON da importare
+     * @return Numero di profili importati
+     * @throws IOException Se il file non può essere letto o non è valido
+     */
+    public synchronized int importJson(String jsonPath) throws IOException {
+        ensureLoaded();
+        List<UserProfile> imported = new ArrayList<>();
+        try {
+            readJson(Paths.get(jsonPath), profile -> {
+                if (index.containsKey(indexKey(profile.getNickname())))
+                    return;
+                if (store != null && !store.canStore(profile.getNickname(), profile.getAvatarPath())) {
+                    LOGGER.logWarning("Profilo " + profile.getNickname() + " non memorizzabile nell'archivio binario, ignorato");
+                    return;
+                }
+                registerProfile(profile);
+                persistNewProfile(profile);
+                imported.add(profile);
+            });
+        } catch (IllegalStateException e) {
+            throw new IOException("File JSON dei profili non valido: " + jsonPath, e);
+        } finally {
+            commit(Durability.FLUSH);
+        }
 
-        profileObject.add("stats", statsObject);
-        profilesArray.add(profileObject);
+        LOGGER.logInfo("Importati " + imported.size() + " profili da " + jsonPath);
+        return imported.size();
+    }
 
-        saveToJson();
-        LOGGER.logInfo("Profilo " + newProfile.getNickname() + " creato con successo");
-        return newProfile;
+    /**
+     * Esporta tutti i profili in un file JSON nel formato di {@code players.json},
+     * con le ultime statistiche persistite.
+     *
+     * @param jsonPath Percorso del file JSON da scrivere
+     * @return true se il file è stato scritto, false altrimenti
+     */
+    public synchronized boolean exportJson(String jsonPath) {
+        ensureLoaded();
+        return writeJson(Paths.get(jsonPath), Durability.FLUSH);
     }
 
     /**
      * Carica e restituisce un profilo utente specifico tramite nickname.
-     * Effettua una ricerca case-insensitive nella lista dei profili caricati
+     * Effettua una ricerca case-insensitive nell'indice dei profili caricati
      * per trovare il profilo corrispondente al nickname specificato.
      *
      * @param nickname Il nickname del profilo da cercare.
@@ -177,11 +696,13 @@ public class ProfileManager {
      * 
      * @since 1.0
      */
-    public UserProfile loadProfile(String nickname) {
-        return profiles.stream()
-                .filter(p -> p.getNickname().equalsIgnoreCase(nickname))
-                .findFirst()
-                .orElse(null);
+    public synchronized UserProfile loadProfile(String nickname) {
+        if (nickname == null)
+            return null;
+
+        ensureLoaded();
+        IndexEntry entry = index.get(indexKey(nickname));
+        return entry != null ? entry.profile() : null;
     }
 
     /**
@@ -195,13 +716,27 @@ public class ProfileManager {
      * 
      * @since 1.0
      */
-    public List<UserProfile> getProfiles() {
+    public synchronized List<UserProfile> getProfiles() {
+        ensureLoaded();
         return profiles;
     }
 
+    /**
+     * Restituisce i primi profili della classifica secondo il criterio indicato,
+     * in base alle ultime statistiche persistite. La lista restituita è una copia.
+     *
+     * @param criterion Il criterio di classifica
+     * @param limit Numero massimo di profili da restituire
+     * @return Nuova lista con al più {@code limit} profili in ordine di classifica
+     */
+    public synchronized List<UserProfile> getRanking(RankingCriterion criterion, int limit) {
+        ensureLoaded();
+        return leaderboard.top(criterion, limit);
+    }
+
     /**
      * Aggiorna le statistiche di un profilo esistente e persiste le modifiche su file.
-     * Trova il profilo corrispondente nell'array JSON tramite nickname e aggiorna
+     * Trova il profilo corrispondente nell'indice tramite nickname e aggiorna
      * solo le statistiche di gioco, mantenendo invariati nickname e avatar.
      * 
      * @param updatedProfile Il profilo con le statistiche aggiornate da persistere.
@@ -214,17 +749,87 @@ public class ProfileManager {
      * @since 1.0
      */
     public void updateProfile(UserProfile updatedProfile) {
-        for (int i = 0; i < profilesArray.size(); i++) {
-            JsonObject profileObject = profilesArray.get(i).getAsJsonObject();
-            if (profileObject.get("nickname").getAsString().equals(updatedProfile.getNickname())) {
-                JsonObject statsObject = profileObject.getAsJsonObject("stats");
-                statsObject.addProperty("totalHandsPlayed", updatedProfile.getStats().getTotalHandsPlayed());
-                statsObject.addProperty("handsWon", updatedProfile.getStats().getHandsWon());
-                statsObject.addProperty("handsLost", updatedProfile.getStats().getHandsLost());
-                statsObject.addProperty("currentBalance", updatedProfile.getStats().getCurrentBalance());
-                saveToJson();
-                break;
+        updateProfiles(List.of(updatedProfile), Durability.FLUSH);
+    }
+
+    /**
+     * Aggiorna le statistiche di più profili e persiste le modifiche con una sola scrittura
+     * al livello di durabilità indicato. In modalità journal ogni profilo produce un record
+     * con le variazioni rispetto all'ultimo stato persistito; in modalità JSON il file viene riscritto una volta.
+     *
+     * @param updatedProfiles I profili con le statistiche aggiornate; i nickname inesistenti vengono ignorati
+     * @param durability Il livello di durabilità della scrittura
+     */
+    public synchronized void updateProfiles(Collection<UserProfile> updatedProfiles, Durability durability) {
+        ensureLoaded();
+        boolean journalFailed = false;
+        for (UserProfile updatedProfile : updatedProfiles) {
+            IndexEntry entry = index.get(indexKey(updatedProfile.getNickname()));
+            if (entry == null)
+                continue;
+
+            // Le variazioni sono calcolate rispetto all'ultimo stato persistito
+            GameStats persisted = entry.persistedStats();
+            GameStats stats = updatedProfile.getStats();
+            int handsPlayed = stats.getTotalHandsPlayed() - persisted.getTotalHandsPlayed();
+            int handsWon = stats.getHandsWon() - persisted.getHandsWon();
+            int handsLost = stats.getHandsLost() - persisted.getHandsLost();
+            int balance = stats.getCurrentBalance() - persisted.getCurrentBalance();
+            copyStats(stats, persisted);
+            leaderboard.update(entry.profile(), persisted);
+
+            if (store != null) {
+                store.writeStats(entry.slot(), persisted);
+                continue;
+            }
+
+            if (journal != null && !journalFailed) {
+                try {
+                    journal.appendStats(updatedProfile.getNickname(), handsPlayed, handsWon, handsLost, balance);
+                } catch (IOException e) {
+                    LOGGER.logError("Scrittura nel journal fallita, salvataggio completo: " + e.getMessage(), e);
+                    journalFailed = true;
+                }
             }
         }
+
+        if (journalFailed)
+            compact(durability);
+        else
+            commit(durability);
+    }
+
+    /**
+     * Rende persistenti le modifiche ancora nel buffer con il livello di durabilità indicato.
+     *
+     * @param durability Il livello di durabilità
+     */
+    public synchronized void sync(Durability durability) {
+        if (!loaded)
+            return;
+
+        if (store != null) {
+            store.sync(durability);
+            return;
+        }
+
+        if (journal == null)
+            return;
+
+        try {
+            journal.sync(durability);
+        } catch (IOException e) {
+            LOGGER.logError("Scrittura nel journal fallita, salvataggio completo: " + e.getMessage(), e);
+            compact(durability);
+        }
+    }
+
+    /**
+     * Restituisce la modalità di persistenza del gestore.
+     *
+     * @return La modalità di persistenza
+     */
+    public PersistenceMode getPersistenceMode() {
+        return persistenceMode;
     }
 }
\ No newline at end of file
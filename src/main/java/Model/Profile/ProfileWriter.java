@@ -0,0 +1,166 @@
+package Model.Profile;
+
+import Utility.LoggerUtility;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scrittore in background dei profili utente.
+ * Gli aggiornamenti inviati con {@link #submit(UserProfile)} vengono copiati e accodati senza bloccare il chiamante;
+ * un thread dedicato li scrive con il {@link ProfileManager} allo scadere di una finestra temporale.
+ * Più aggiornamenti dello stesso profilo nella stessa finestra vengono fusi: viene scritto solo l'ultimo stato.
+ * <p>
+ * Alla chiusura gli aggiornamenti in attesa vengono scritti e resi persistenti prima di arrestare il thread.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class ProfileWriter implements AutoCloseable {
+    private static final LoggerUtility LOGGER = new LoggerUtility();
+    /** Finestra di fusione degli aggiornamenti usata dal costruttore di default, in millisecondi. */
+    public static final long DEFAULT_COALESCE_WINDOW_MILLIS = 500;
+
+    private final ProfileManager profileManager;
+    private final long coalesceWindowMillis;
+    private final Durability durability;
+    private final Map<String, UserProfile> pending;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean writeScheduled;
+    private volatile boolean closed;
+
+    /**
+     * Costruisce uno scrittore con la finestra di default e durabilità {@link Durability#FLUSH}.
+     *
+     * @param profileManager Il gestore su cui scrivere i profili
+     */
+    public ProfileWriter(ProfileManager profileManager) {
+        this(profileManager, DEFAULT_COALESCE_WINDOW_MILLIS, Durability.FLUSH);
+    }
+
+    /**
+     * Costruisce uno scrittore con finestra di fusione e durabilità indicate.
+     *
+     * @param profileManager Il gestore su cui scrivere i profili
+     * @param coalesceWindowMillis Attesa tra il primo aggiornamento in coda e la scrittura, in millisecondi
+     * @param durability Il livello di durabilità di ogni scrittura
+     * @throws IllegalArgumentException Se il gestore o la durabilità sono null o la finestra è negativa
+     */
+    public ProfileWriter(ProfileManager profileManager, long coalesceWindowMillis, Durability durability) {
+        if (profileManager == null)
+            throw new IllegalArgumentException("Il gestore dei profili non può essere null");
+        if (coalesceWindowMillis < 0)
+            throw new IllegalArgumentException("La finestra di fusione non può essere negativa");
+        if (durability == null)
+            throw new IllegalArgumentException("La durabilità non può essere null");
+
+        this.profileManager = profileManager;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.durability = durability;
+        this.pending = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "profile-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writeScheduled = new AtomicBoolean(false);
+        this.closed = false;
+    }
+
+    /**
+     * Accoda l'aggiornamento di un profilo. Viene accodata una copia delle statistiche correnti,
+     * quindi il chiamante può continuare a modificare il profilo.
+     *
+     * @param profile Il profilo da scrivere
+     * @throws IllegalStateException Se lo scrittore è stato chiuso
+     */
+    public void submit(UserProfile profile) {
+        if (closed)
+            throw new IllegalStateException("Lo scrittore dei profili è chiuso");
+
+        pending.put(profile.getNickname(), snapshot(profile));
+        if (writeScheduled.compareAndSet(false, true))
+            executor.schedule(this::writePending, coalesceWindowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Scrive subito gli aggiornamenti in attesa e attende il termine della scrittura.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.logError("Errore nella scrittura dei profili: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Restituisce il numero di profili con aggiornamenti in attesa di scrittura.
+     *
+     * @return Profili in attesa
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Scrive gli aggiornamenti in attesa, li rende persistenti almeno fino al sistema operativo
+     * e arresta il thread di scrittura. Gli invii successivi vengono rifiutati.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+
+        closed = true;
+        flush();
+        profileManager.sync(durability == Durability.NONE ? Durability.FLUSH : durability);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Scrive in un'unica operazione gli aggiornamenti accumulati. Eseguito sul thread di scrittura.
+     */
+    private void writePending() {
+        writeScheduled.set(false);
+        if (pending.isEmpty())
+            return;
+
+        List<UserProfile> batch = new ArrayList<>(pending.size());
+        for (String nickname : pending.keySet()) {
+            UserProfile profile = pending.remove(nickname);
+            if (profile != null)
+                batch.add(profile);
+        }
+
+        try {
+            profileManager.updateProfiles(batch, durability);
+        } catch (RuntimeException e) {
+            LOGGER.logError("Errore nella scrittura dei profili: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copia nickname, avatar e statistiche di un profilo.
+     *
+     * @param profile Il profilo da copiare
+     * @return La copia del profilo
+     */
+    private static UserProfile snapshot(UserProfile profile) {
+        GameStats stats = new GameStats();
+        stats.setTotalHandsPlayed(profile.getStats().getTotalHandsPlayed());
+        stats.setHandsWon(profile.getStats().getHandsWon());
+        stats.setHandsLost(profile.getStats().getHandsLost());
+        stats.setCurrentBalance(profile.getStats().getCurrentBalance());
+        return new UserProfile(profile.getNickname(), profile.getAvatarPath(), stats);
+    }
+}
@@ -0,0 +1,81 @@
+package Model.Profile;
+
+/**
+ * Enumerazione dei criteri di classifica dei profili.
+ * Ogni criterio indica la statistica confrontata, il verso dell'ordinamento
+ * e l'etichetta mostrata nel menu della classifica.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public enum RankingCriterion {
+    /** Mani vinte, dalla più alta. */
+    HANDS_WON("Hands Won", true),
+    /** Mani perse, dalla più bassa. */
+    HANDS_LOST("Hands Lost", false),
+    /** Mani giocate, dalla più alta. */
+    TOTAL_HANDS_PLAYED("Total Hands Played", true),
+    /** Saldo corrente, dal più alto. */
+    CURRENT_BALANCE("Current Balance", true);
+
+    private final String label;
+    private final boolean descending;
+
+    /**
+     * Costruttore del criterio.
+     *
+     * @param label Etichetta mostrata nel menu della classifica
+     * @param descending true se i valori più alti precedono in classifica
+     */
+    RankingCriterion(String label, boolean descending) {
+        this.label = label;
+        this.descending = descending;
+    }
+
+    /**
+     * Restituisce il valore della statistica confrontata dal criterio.
+     *
+     * @param stats Le statistiche del profilo
+     * @return Il valore della statistica
+     */
+    public int valueOf(GameStats stats) {
+        switch (this) {
+            case HANDS_WON: return stats.getHandsWon();
+            case HANDS_LOST: return stats.getHandsLost();
+            case TOTAL_HANDS_PLAYED: return stats.getTotalHandsPlayed();
+            default: return stats.getCurrentBalance();
+        }
+    }
+
+    /**
+     * Restituisce l'etichetta mostrata nel menu della classifica.
+     *
+     * @return L'etichetta del criterio
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Indica se i valori più alti precedono in classifica.
+     *
+     * @return true per l'ordinamento decrescente
+     */
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Restituisce il criterio con l'etichetta indicata.
+     *
+     * @param label L'etichetta del criterio
+     * @return Il criterio, o null se l'etichetta non è riconosciuta
+     */
+    public static RankingCriterion fromLabel(String label) {
+        for (RankingCriterion criterion : values())
+            if (criterion.label.equals(label))
+                return criterion;
+        return null;
+    }
+}
@@ -0,0 +1,162 @@
+package Model.Simulation;
+
+import Model.Game.Objects.Deck;
+import Model.Players.StrategyPlay.PlayerStrategy;
+import java.util.List;
+
+/**
+ * Parametri di una simulazione Monte Carlo del BlackJack.
+ * Descrive quanti round giocare, su quanti worker distribuirli, il seme
+ * da cui derivare i generatori di ogni worker e le strategie sedute al tavolo.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class SimulationConfig {
+    private final long rounds;
+    private final int workers;
+    private final long seed;
+    private final int bet;
+    private final int deckCount;
+    private final double penetration;
+    private final List<PlayerStrategy> seatStrategies;
+
+    /**
+     * Costruisce una nuova configurazione di simulazione con il sabot di default.
+     *
+     * @param rounds Numero totale di round da giocare (somma su tutti i worker)
+     * @param workers Numero di worker, ciascuno con il proprio tavolo e mazzo indipendente
+     * @param seed Seme da cui vengono derivati in modo deterministico i semi dei worker
+     * @param bet Puntata fissa piazzata da ogni posto a ogni round
+     * @param seatStrategies Strategie dei giocatori AI, una per posto al tavolo
+     * @throws IllegalArgumentException Se uno dei parametri non è valido
+     */
+    public SimulationConfig(long rounds, int workers, long seed, int bet, List<PlayerStrategy> seatStrategies) {
+        this(rounds, workers, seed, bet, Deck.DEFAULT_DECK_COUNT, Deck.DEFAULT_PENETRATION, seatStrategies);
+    }
+
+    /**
+     * Costruisce una nuova configurazione di simulazione.
+     *
+     * @param rounds Numero totale di round da giocare (somma su tutti i worker)
+     * @param workers Numero di worker, ciascuno con il proprio tavolo e mazzo indipendente
+     * @param seed Seme da cui vengono derivati in modo deterministico i semi dei worker
+     * @param bet Puntata fissa piazzata da ogni posto a ogni round
+     * @param deckCount Numero di mazzi nel sabot di ogni tavolo (da 1 a 8)
+     * @param penetration Frazione del sabot distribuita prima della carta di taglio
+     * @param seatStrategies Strategie dei giocatori AI, una per posto al tavolo
+     * @throws IllegalArgumentException Se uno dei parametri non è valido
+     */
+    public SimulationConfig(long rounds, int workers, long seed, int bet, int deckCount, double penetration,
+                            List<PlayerStrategy> seatStrategies) {
+        if (rounds <= 0)
+            throw new IllegalArgumentException("Il numero di round deve essere positivo");
+        if (workers <= 0)
+            throw new IllegalArgumentException("Il numero di worker deve essere positivo");
+        if (bet <= 0)
+            throw new IllegalArgumentException("La puntata deve essere positiva");
+        if (seatStrategies == null || seatStrategies.isEmpty())
+            throw new IllegalArgumentException("Serve almeno una strategia al tavolo");
+        if (deckCount < Deck.MIN_DECK_COUNT || deckCount > Deck.MAX_DECK_COUNT)
+            throw new IllegalArgumentException("Il numero di mazzi deve essere compreso tra " + Deck.MIN_DECK_COUNT + " e " + Deck.MAX_DECK_COUNT);
+        if (!(penetration > 0 && penetration <= 1))
+            throw new IllegalArgumentException("La penetrazione deve essere compresa tra 0 (escluso) e 1");
+
+        this.rounds = rounds;
+        this.workers = workers;
+        this.seed = seed;
+        this.bet = bet;
+        this.deckCount = deckCount;
+        this.penetration = penetration;
+        this.seatStrategies = List.copyOf(seatStrategies);
+    }
+
+    /**
+     * Crea una configurazione che usa un worker per ogni core disponibile.
+     *
+     * @param rounds Numero totale di round da giocare
+     * @param seed Seme della simulazione
+     * @param bet Puntata fissa per ogni posto
+     * @param seatStrategies Strategie dei giocatori AI
+     * @return Una nuova configurazione
+     */
+    public static SimulationConfig perCore(long rounds, long seed, int bet, List<PlayerStrategy> seatStrategies) {
+        return new SimulationConfig(rounds, Runtime.getRuntime().availableProcessors(), seed, bet, seatStrategies);
+    }
+
+    /**
+     * Restituisce il numero totale di round.
+     *
+     * @return Numero di round
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Restituisce il numero di worker.
+     *
+     * @return Numero di worker
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Restituisce il seme della simulazione.
+     *
+     * @return Il seme
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Restituisce la puntata fissa per ogni posto.
+     *
+     * @return Importo della puntata
+     */
+    public int getBet() {
+        return bet;
+    }
+
+    /**
+     * Restituisce il numero di mazzi nel sabot di ogni tavolo.
+     *
+     * @return Numero di mazzi
+     */
+    public int getDeckCount() {
+        return deckCount;
+    }
+
+    /**
+     * Restituisce la penetrazione del sabot.
+     *
+     * @return Frazione del sabot distribuita prima della carta di taglio
+     */
+    public double getPenetration() {
+        return penetration;
+    }
+
+    /**
+     * Restituisce le strategie dei posti al tavolo.
+     *
+     * @return Lista immutabile delle strategie
+     */
+    public List<PlayerStrategy> getSeatStrategies() {
+        return seatStrategies;
+    }
+
+    /**
+     * Calcola quanti round spettano al worker indicato.
+     * Il resto della divisione viene distribuito sui primi worker.
+     *
+     * @param workerIndex Indice del worker
+     * @return Numero di round del worker
+     */
+    public long roundsForWorker(int workerIndex) {
+        long base = rounds / workers;
+        return workerIndex < rounds % workers ? base + 1 : base;
+    }
+}
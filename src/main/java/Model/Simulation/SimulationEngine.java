@@ -0,0 +1,159 @@
+package Model.Simulation;
+
+import Model.History.HandHistoryWriter;
+import Model.Players.StrategyPlay.AggressiveStrategy;
+import Model.Players.StrategyPlay.BalancedStrategy;
+import Model.Players.StrategyPlay.BasicStrategy;
+import Model.Players.StrategyPlay.ConservativeStrategy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Motore di simulazione Monte Carlo del BlackJack senza interfaccia grafica.
+ * Distribuisce i round su un pool fork-join, un worker per core: ogni worker gioca
+ * su un proprio {@link SimulationTable} con un mazzo indipendente, senza stato condiviso,
+ * e i risultati parziali vengono uniti al termine.
+ * I semi dei worker sono derivati in modo deterministico dal seme della configurazione,
+ * quindi la stessa configurazione produce sempre lo stesso risultato.
+ * Su richiesta ogni worker registra i propri round in uno storico delle mani dedicato.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class SimulationEngine {
+
+    /**
+     * Esegue la simulazione descritta dalla configurazione.
+     *
+     * @param config La configurazione della simulazione
+     * @return I risultati uniti di tutti i worker
+     */
+    public SimulationResult run(SimulationConfig config) {
+        return run(config, null);
+    }
+
+    /**
+     * Esegue la simulazione descritta dalla configurazione registrando i round giocati.
+     * Ogni worker scrive nella cartella indicata il proprio storico, {@code hand-history-<worker>.bin},
+     * accodando i round a quelli di un eventuale storico già presente.
+     *
+     * @param config La configurazione della simulazione
+     * @param historyDirectory Cartella degli storici delle mani, o null per non registrare i round
+     * @return I risultati uniti di tutti i worker
+     * @throws UncheckedIOException Se uno storico non può essere scritto
+     */
+    public SimulationResult run(SimulationConfig config, Path historyDirectory) {
+        long[] seeds = deriveSeeds(config.getSeed(), config.getWorkers());
+        ForkJoinPool pool = new ForkJoinPool(config.getWorkers());
+        try {
+            return pool.invoke(new WorkerTask(config, seeds, historyDirectory, 0, config.getWorkers()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Deriva un seme indipendente per ogni worker a partire dal seme della simulazione.
+     *
+     * @param seed Il seme della simulazione
+     * @param workers Numero di worker
+     * @return Array dei semi, uno per worker
+     */
+    static long[] deriveSeeds(long seed, int workers) {
+        SplittableRandom root = new SplittableRandom(seed);
+        long[] seeds = new long[workers];
+        for (int i = 0; i < workers; i++)
+            seeds[i] = root.split().nextLong();
+        return seeds;
+    }
+
+    /**
+     * Task fork-join che divide l'intervallo di worker a metà fino ad arrivare
+     * a un singolo worker, che gioca i propri round su un tavolo dedicato.
+     */
+    private static class WorkerTask extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+        private final transient SimulationConfig config;
+        private final long[] seeds;
+        private final transient Path historyDirectory;
+        private final int from;
+        private final int to;
+
+        WorkerTask(SimulationConfig config, long[] seeds, Path historyDirectory, int from, int to) {
+            this.config = config;
+            this.seeds = seeds;
+            this.historyDirectory = historyDirectory;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from == 1)
+                return playWorker(from);
+
+            int middle = (from + to) >>> 1;
+            WorkerTask left = new WorkerTask(config, seeds, historyDirectory, from, middle);
+            WorkerTask right = new WorkerTask(config, seeds, historyDirectory, middle, to);
+            left.fork();
+            SimulationResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+
+        private SimulationResult playWorker(int workerIndex) {
+            SimulationResult result = new SimulationResult(config.getSeatStrategies().size());
+            SimulationTable table = new SimulationTable(config.getSeatStrategies(), config.getBet(),
+                    config.getDeckCount(), config.getPenetration(), new SplittableRandom(seeds[workerIndex]));
+            if (historyDirectory == null) {
+                table.play(config.roundsForWorker(workerIndex), result);
+                return result;
+            }
+
+            Path path = historyDirectory.resolve("hand-history-" + workerIndex + ".bin");
+            try (HandHistoryWriter history = new HandHistoryWriter(path, config.getDeckCount())) {
+                table.setHistory(history);
+                table.play(config.roundsForWorker(workerIndex), result);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Avvia una simulazione da riga di comando e stampa i risultati per posto.
+     * Argomenti opzionali: numero di round, numero di worker, seme, cartella in cui registrare gli storici delle mani.
+     *
+     * @param args Argomenti della riga di comando
+     */
+    public static void main(String[] args) {
+        long rounds = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        Path historyDirectory = args.length > 3 ? Path.of(args[3]) : null;
+
+        SimulationConfig config = new SimulationConfig(rounds, workers, seed, 10,
+                List.of(new AggressiveStrategy(), new BalancedStrategy(), new ConservativeStrategy(),
+                        new BasicStrategy()));
+
+        long start = System.nanoTime();
+        SimulationResult result = new SimulationEngine().run(config, historyDirectory);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Round giocati: %d in %.2f s (%.0f round/s, %d worker)%n",
+                result.getRounds(), seconds, result.getRounds() / seconds, workers);
+        for (int seat = 0; seat < result.getSeats(); seat++) {
+            System.out.printf("Posto %d (%s): mani=%d vinte=%d perse=%d pari=%d blackjack=%d EV=%.4f%n",
+                    seat + 1, config.getSeatStrategies().get(seat).getClass().getSimpleName(),
+                    result.getHandsPlayed(seat), result.getHandsWon(seat), result.getHandsLost(seat),
+                    result.getHandsPushed(seat), result.getBlackjacks(seat), result.getExpectedValue(seat));
+        }
+        System.out.printf("Vantaggio del banco: %.4f%n", result.getHouseEdge());
+    }
+}
@@ -0,0 +1,208 @@
+package Model.Simulation;
+
+/**
+ * Risultati aggregati di una simulazione, suddivisi per posto al tavolo.
+ * Ogni worker accumula i propri risultati in un'istanza separata;
+ * al termine le istanze vengono unite con {@link #merge(SimulationResult)}.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class SimulationResult {
+    private long rounds;
+    private final long[] handsPlayed;
+    private final long[] handsWon;
+    private final long[] handsLost;
+    private final long[] handsPushed;
+    private final long[] blackjacks;
+    private final long[] wagered;
+    private final long[] net;
+
+    /**
+     * Costruisce un risultato vuoto per il numero di posti indicato.
+     *
+     * @param seats Numero di posti al tavolo
+     */
+    public SimulationResult(int seats) {
+        this.handsPlayed = new long[seats];
+        this.handsWon = new long[seats];
+        this.handsLost = new long[seats];
+        this.handsPushed = new long[seats];
+        this.blackjacks = new long[seats];
+        this.wagered = new long[seats];
+        this.net = new long[seats];
+    }
+
+    /**
+     * Registra la conclusione di un round.
+     */
+    void recordRound() {
+        rounds++;
+    }
+
+    /**
+     * Registra l'esito di una singola mano.
+     *
+     * @param seat Posto al tavolo
+     * @param outcome Esito della mano ("win", "loss" o "push")
+     * @param blackjack true se la mano era un blackjack
+     */
+    void recordHand(int seat, String outcome, boolean blackjack) {
+        handsPlayed[seat]++;
+        if (outcome.equals("win"))
+            handsWon[seat]++;
+        else if (outcome.equals("loss"))
+            handsLost[seat]++;
+        else
+            handsPushed[seat]++;
+
+        if (blackjack)
+            blackjacks[seat]++;
+    }
+
+    /**
+     * Registra il movimento di denaro di un posto in un round.
+     *
+     * @param seat Posto al tavolo
+     * @param stake Importo totale puntato (puntate, raddoppi, split e assicurazioni)
+     * @param result Vincita netta del round, negativa in caso di perdita
+     */
+    void recordMoney(int seat, long stake, long result) {
+        wagered[seat] += stake;
+        net[seat] += result;
+    }
+
+    /**
+     * Unisce i risultati di un altro worker in questa istanza.
+     *
+     * @param other I risultati da unire
+     * @return Questa istanza, per concatenare le chiamate
+     */
+    public SimulationResult merge(SimulationResult other) {
+        rounds += other.rounds;
+        for (int seat = 0; seat < getSeats(); seat++) {
+            handsPlayed[seat] += other.handsPlayed[seat];
+            handsWon[seat] += other.handsWon[seat];
+            handsLost[seat] += other.handsLost[seat];
+            handsPushed[seat] += other.handsPushed[seat];
+            blackjacks[seat] += other.blackjacks[seat];
+            wagered[seat] += other.wagered[seat];
+            net[seat] += other.net[seat];
+        }
+        return this;
+    }
+
+    /**
+     * Restituisce il numero di posti al tavolo.
+     *
+     * @return Numero di posti
+     */
+    public int getSeats() {
+        return net.length;
+    }
+
+    /**
+     * Restituisce il numero di round giocati.
+     *
+     * @return Numero di round
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Restituisce il numero di mani giocate da un posto.
+     *
+     * @param seat Posto al tavolo
+     * @return Mani giocate
+     */
+    public long getHandsPlayed(int seat) {
+        return handsPlayed[seat];
+    }
+
+    /**
+     * Restituisce il numero di mani vinte da un posto.
+     *
+     * @param seat Posto al tavolo
+     * @return Mani vinte
+     */
+    public long getHandsWon(int seat) {
+        return handsWon[seat];
+    }
+
+    /**
+     * Restituisce il numero di mani perse da un posto.
+     *
+     * @param seat Posto al tavolo
+     * @return Mani perse
+     */
+    public long getHandsLost(int seat) {
+        return handsLost[seat];
+    }
+
+    /**
+     * Restituisce il numero di mani pareggiate da un posto.
+     *
+     * @param seat Posto al tavolo
+     * @return Mani pareggiate
+     */
+    public long getHandsPushed(int seat) {
+        return handsPushed[seat];
+    }
+
+    /**
+     * Restituisce il numero di blackjack ottenuti da un posto.
+     *
+     * @param seat Posto al tavolo
+     * @return Numero di blackjack
+     */
+    public long getBlackjacks(int seat) {
+        return blackjacks[seat];
+    }
+
+    /**
+     * Restituisce l'importo totale puntato da un posto.
+     *
+     * @param seat Posto al tavolo
+     * @return Totale puntato
+     */
+    public long getWagered(int seat) {
+        return wagered[seat];
+    }
+
+    /**
+     * Restituisce la vincita netta complessiva di un posto.
+     *
+     * @param seat Posto al tavolo
+     * @return Vincita netta, negativa se il posto è in perdita
+     */
+    public long getNet(int seat) {
+        return net[seat];
+    }
+
+    /**
+     * Calcola il valore atteso di un posto, espresso come frazione del totale puntato.
+     *
+     * @param seat Posto al tavolo
+     * @return Il valore atteso per unità puntata
+     */
+    public double getExpectedValue(int seat) {
+        return wagered[seat] == 0 ? 0 : (double) net[seat] / wagered[seat];
+    }
+
+    /**
+     * Calcola il vantaggio del banco su tutti i posti al tavolo.
+     *
+     * @return Il vantaggio del banco come frazione del totale puntato
+     */
+    public double getHouseEdge() {
+        long totalWagered = 0;
+        long totalNet = 0;
+        for (int seat = 0; seat < getSeats(); seat++) {
+            totalWagered += wagered[seat];
+            totalNet += net[seat];
+        }
+        return totalWagered == 0 ? 0 : (double) -totalNet / totalWagered;
+    }
+}
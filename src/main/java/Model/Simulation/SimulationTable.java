@@ -0,0 +1,316 @@
+package Model.Simulation;
+
+import Model.Game.BankManager;
+import Model.Game.ResultCalculator;
+import Model.Game.Objects.Card;
+import Model.Game.Objects.Deck;
+import Model.Game.Objects.Hand;
+import Model.History.HandAction;
+import Model.History.HandHistoryWriter;
+import Model.Players.AIPlayer;
+import Model.Players.Dealer;
+import Model.Players.PlayerFactory;
+import Model.Players.StrategyPlay.PlayerStrategy;
+import Model.Players.StrategyPlay.StrategyAction;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Tavolo di BlackJack senza interfaccia grafica, usato dalla simulazione.
+ * Applica le stesse regole del {@link Model.Game.TurnManager} (ordine di split,
+ * double down, assicurazione e pescata dei giocatori AI, turno del dealer)
+ * e delega pagamenti ed esiti a {@link BankManager} e {@link ResultCalculator},
+ * ma senza giocatore umano e senza notificare alcun osservatore.
+ * Split e double down vengono addebitati tramite il BankManager come per il giocatore umano,
+ * così che il valore atteso misurato tenga conto dell'intera puntata.
+ * Ogni tavolo possiede il proprio mazzo e il proprio generatore: non va condiviso tra thread.
+ * Se al tavolo è associato uno storico ({@link #setHistory(HandHistoryWriter)}) ogni round vi viene registrato;
+ * senza storico il costo per round è di un solo controllo per voce.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class SimulationTable {
+    private static final int BANKROLL = 1_000_000;
+
+    private final List<AIPlayer> players;
+    private final Dealer dealer;
+    private final Deck deck;
+    private final BankManager bankManager;
+    private final ResultCalculator resultCalculator;
+    private final int bet;
+    private final RandomGenerator random;
+    private HandHistoryWriter history;
+
+    /**
+     * Costruisce un tavolo con un giocatore AI per ogni strategia.
+     *
+     * @param seatStrategies Strategie dei posti al tavolo
+     * @param bet Puntata fissa piazzata da ogni posto a ogni round
+     * @param deckCount Numero di mazzi nel sabot del tavolo
+     * @param penetration Frazione del sabot distribuita prima della carta di taglio
+     * @param random Generatore usato per mescolare il mazzo del tavolo e per le decisioni casuali delle strategie
+     */
+    public SimulationTable(List<PlayerStrategy> seatStrategies, int bet, int deckCount, double penetration, RandomGenerator random) {
+        this.players = new ArrayList<>();
+        for (int i = 0; i < seatStrategies.size(); i++)
+            players.add(new AIPlayer("Seat_" + (i + 1), seatStrategies.get(i)));
+
+        this.dealer = PlayerFactory.createDealer();
+        this.deck = new Deck(deckCount, penetration, random);
+        this.bankManager = new BankManager();
+        this.resultCalculator = new ResultCalculator(bankManager);
+        this.bet = bet;
+        this.random = random;
+    }
+
+    /**
+     * Associa al tavolo uno storico delle mani in cui registrare i round successivi.
+     * I posti dello storico corrispondono ai posti del tavolo, a partire da 0.
+     *
+     * @param history Lo storico, o null per non registrare i round
+     * @throws IllegalArgumentException Se il tavolo ha più posti di quanti lo storico ne possa registrare
+     */
+    public void setHistory(HandHistoryWriter history) {
+        if (history != null && players.size() > HandHistoryWriter.MAX_SEAT + 1)
+            throw new IllegalArgumentException("Lo storico registra al massimo " + (HandHistoryWriter.MAX_SEAT + 1) + " posti");
+        this.history = history;
+    }
+
+    /**
+     * Gioca il numero di round indicato accumulando gli esiti nel risultato.
+     *
+     * @param rounds Numero di round da giocare
+     * @param result Risultato in cui accumulare gli esiti
+     */
+    public void play(long rounds, SimulationResult result) {
+        for (long i = 0; i < rounds; i++)
+            playRound(result);
+    }
+
+    /**
+     * Gioca un singolo round completo: puntate, distribuzione, turni AI,
+     * turno del dealer e liquidazione delle mani.
+     *
+     * @param result Risultato in cui accumulare gli esiti del round
+     */
+    public void playRound(SimulationResult result) {
+        boolean shuffled = deck.needsShuffle();
+        if (shuffled)
+            deck.shuffle();
+        if (history != null)
+            history.beginRound(deck.getPosition(), shuffled);
+
+        for (int seat = 0; seat < players.size(); seat++) {
+            AIPlayer player = players.get(seat);
+            player.setBalance(BANKROLL);
+            player.placeBet(bet, 0);
+            if (history != null)
+                history.bet(seat, 0, bet);
+        }
+
+        for (int seat = 0; seat < players.size(); seat++) {
+            AIPlayer player = players.get(seat);
+            deal(player, seat, 0);
+            deal(player, seat, 0);
+            if (history != null && player.hasBlackjack(0))
+                history.action(seat, 0, HandAction.BLACKJACK, 0);
+        }
+        dealDealer(true);
+        dealDealer(false);
+
+        Card dealerUpCard = dealer.getHand(0).get(0);
+        for (int seat = 0; seat < players.size(); seat++)
+            playSeat(players.get(seat), seat, dealerUpCard);
+
+        playDealer();
+        settle(result);
+    }
+
+    /**
+     * Distribuisce una carta a una mano di un giocatore, registrandola nello storico.
+     *
+     * @param player Il giocatore
+     * @param seat Il posto del giocatore
+     * @param handIndex Indice della mano
+     */
+    private void deal(AIPlayer player, int seat, int handIndex) {
+        Card card = deck.drawCard();
+        player.addCard(handIndex, card);
+        if (history != null)
+            history.card(seat, handIndex, card, false);
+    }
+
+    /**
+     * Distribuisce una carta al dealer, registrandola nello storico.
+     *
+     * @param hidden true per la carta coperta
+     */
+    private void dealDealer(boolean hidden) {
+        Card card = deck.drawCard();
+        dealer.addCard(card);
+        if (history != null)
+            history.card(HandHistoryWriter.DEALER_SEAT, 0, card, hidden);
+    }
+
+    /**
+     * Registra un'azione nello storico, se presente.
+     *
+     * @param seat Il posto
+     * @param handIndex Indice della mano
+     * @param action L'azione
+     * @param amount Importo puntato dall'azione
+     */
+    private void record(int seat, int handIndex, HandAction action, int amount) {
+        if (history != null)
+            history.action(seat, handIndex, action, amount);
+    }
+
+    /**
+     * Gioca tutte le mani di un giocatore AI seguendo la decisione della sua strategia,
+     * con le stesse priorità del TurnManager: split, double down, assicurazione e pescata.
+     * La resa non è prevista dal tavolo.
+     *
+     * @param player Il giocatore AI
+     * @param seat Il posto del giocatore
+     * @param dealerUpCard La carta scoperta del dealer
+     */
+    private void playSeat(AIPlayer player, int seat, Card dealerUpCard) {
+        PlayerStrategy strategy = player.getStrategy();
+
+        for (int handIndex = 0; handIndex < player.getHandCount(); handIndex++) {
+            boolean continuePlaying = true;
+
+            while (continuePlaying && player.getHandValue(handIndex) < 21) {
+                Hand hand = player.getHands().get(handIndex);
+                int handValue = hand.getValue();
+                StrategyAction action = strategy.decide(hand, dealerUpCard,
+                        player.canSplit(handIndex), player.canDoubleDown(handIndex), false);
+
+                if (action == StrategyAction.SPLIT && bankManager.handleSplit(player, handIndex)) {
+                    Card newCard1 = deck.drawCard();
+                    Card newCard2 = deck.drawCard();
+                    player.splitHand(handIndex, newCard1, newCard2);
+                    if (history != null) {
+                        int newHandIndex = player.getHandCount() - 1;
+                        history.action(seat, handIndex, HandAction.SPLIT, player.getHands().get(newHandIndex).getBet());
+                        history.card(seat, handIndex, newCard1, false);
+                        history.card(seat, newHandIndex, newCard2, false);
+                    }
+                    continue;
+                }
+
+                if (action == StrategyAction.DOUBLE_DOWN) {
+                    int handBet = hand.getBet();
+                    if (bankManager.handleDoubleDown(player, handIndex)) {
+                        record(seat, handIndex, HandAction.DOUBLE_DOWN, handBet);
+                        deal(player, seat, handIndex);
+                        continuePlaying = false;
+                        continue;
+                    }
+                }
+
+                if (handIndex == 0 && dealerUpCard.isAce() &&
+                        strategy.shouldTakeInsurance(handValue, dealerUpCard, random) &&
+                        hand.size() <= 2) {
+                    player.takeInsurance();
+                    if (bankManager.placeInsurance(player))
+                        record(seat, handIndex, HandAction.INSURANCE, player.getInsuranceAmount());
+                }
+
+                if (action == StrategyAction.HIT) {
+                    deal(player, seat, handIndex);
+                    if (player.getHandValue(handIndex) > 21) {
+                        record(seat, handIndex, HandAction.BUST, 0);
+                        continuePlaying = false;
+                    }
+                } else {
+                    record(seat, handIndex, HandAction.STAND, 0);
+                    continuePlaying = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gioca il turno del dealer: rivela la carta coperta e pesca secondo la sua strategia,
+     * a meno che tutte le mani al tavolo abbiano già sballato.
+     */
+    private void playDealer() {
+        dealer.revealHiddenCard();
+        if (allHandsBusted())
+            return;
+
+        PlayerStrategy strategy = dealer.getStrategy();
+        while (strategy.shouldDraw(dealer.getHandValue(0))) {
+            Card card = deck.drawCard();
+            dealer.addCard(0, card);
+            if (history != null)
+                history.card(HandHistoryWriter.DEALER_SEAT, 0, card, false);
+            if (dealer.isBusted(0)) {
+                record(HandHistoryWriter.DEALER_SEAT, 0, HandAction.BUST, 0);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Verifica se tutte le mani di tutti i giocatori hanno sballato.
+     *
+     * @return true se tutte le mani hanno sballato, false altrimenti
+     */
+    private boolean allHandsBusted() {
+        for (AIPlayer player : players)
+            for (int handIndex = 0; handIndex < player.getHandCount(); handIndex++)
+                if (!player.isBusted(handIndex))
+                    return false;
+        return true;
+    }
+
+    /**
+     * Liquida assicurazioni e mani di ogni posto, registra gli esiti e prepara il tavolo al round successivo.
+     *
+     * @param result Risultato in cui accumulare gli esiti
+     */
+    private void settle(SimulationResult result) {
+        int dealerValue = dealer.getHandValue(0);
+        boolean dealerBusted = dealerValue > 21;
+        boolean dealerBlackjack = dealer.hasBlackjack(0);
+
+        for (int seat = 0; seat < players.size(); seat++) {
+            AIPlayer player = players.get(seat);
+            int balance = player.getBalance();
+            long stake = BANKROLL - balance;
+
+            if (dealerBlackjack)
+                bankManager.payInsurance(player);
+            else
+                bankManager.handleInsuranceLoss(player);
+
+            for (int handIndex = 0; handIndex < player.getHandCount(); handIndex++) {
+                boolean blackjack = player.hasBlackjack(handIndex);
+                String outcome = resultCalculator.processHandOutcome(player, handIndex, dealerValue, dealerBusted);
+                result.recordHand(seat, outcome, blackjack);
+            }
+
+            result.recordMoney(seat, stake, player.getBalance() - BANKROLL);
+            if (history != null)
+                history.payout(seat, player.getBalance() - balance);
+            player.resetHand();
+        }
+
+        dealer.resetHand();
+        result.recordRound();
+        if (history != null) {
+            try {
+                history.endRound();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package Utility;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Coda circolare limitata e senza lock per il logging asincrono: molti produttori, un solo consumatore.
+ * Ogni cella ha un numero di sequenza che indica se è libera per il produttore di quel giro
+ * o pronta per il consumatore, così che produttori e consumatore non si blocchino mai a vicenda.
+ * Quando la coda è piena l'inserimento fallisce subito invece di attendere.
+ *
+ * @param <T> Il tipo degli elementi
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class LogRingBuffer<T> {
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail;
+    private long head;
+
+    /**
+     * Costruisce una coda con la capacità indicata, arrotondata alla potenza di due successiva.
+     *
+     * @param capacity Capacità minima della coda
+     * @throws IllegalArgumentException Se la capacità non è positiva
+     */
+    LogRingBuffer(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("La capacità della coda deve essere positiva");
+
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++)
+            sequences.set(i, i);
+        this.tail = new AtomicLong();
+        this.head = 0;
+    }
+
+    /**
+     * Inserisce un elemento; può essere chiamato da qualsiasi thread.
+     *
+     * @param element L'elemento da inserire
+     * @return true se inserito, false se la coda è piena
+     */
+    boolean offer(T element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Estrae il prossimo elemento; deve essere chiamato sempre dallo stesso thread consumatore.
+     *
+     * @return L'elemento, o null se la coda è vuota
+     */
+    T poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1)
+            return null;
+
+        T element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.lazySet(index, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    /**
+     * Restituisce la capacità effettiva della coda.
+     *
+     * @return Numero di celle
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
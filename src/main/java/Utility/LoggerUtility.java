@@ -1,20 +1,42 @@
 package Utility;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 import java.util.logging.*;
 
 /**
  * Utility per la gestione centralizzata del logging nell'applicazione BlackJack.
  * Fornisce metodi statici per registrare informazioni, avvertimenti ed errori
  * sia su console che su file.
- * 
+ * <p>
+ * Il messaggio viene registrato solo se il livello è abilitato;
+ * le varianti con {@link Supplier} rimandano anche la costruzione del messaggio.
+ * In modalità asincrona ({@link #enableAsync(int)}) i record vengono consegnati a un thread
+ * di scrittura tramite una coda circolare senza lock: il thread chiamante non formatta,
+ * non scrive su file e non attende mai. Se la coda è piena il record viene scartato e conteggiato.
+ * Per non percorrere lo stack sul thread chiamante, in modalità asincrona il record indica
+ * il thread che lo ha prodotto invece della classe e del metodo chiamante.
+ *
  * @author JBlackJack Team
  * @version 1.0
  * @since 1.0
  */
 public class LoggerUtility {
+    /** Capacità della coda asincrona suggerita per l'applicazione. */
+    public static final int DEFAULT_ASYNC_CAPACITY = 4096;
+    private static final long WRITER_IDLE_NANOS = 5_000_000L;
     private static final Logger logger = Logger.getLogger("GameLogger");
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final AtomicLong droppedRecords = new AtomicLong();
+    private static final AtomicInteger pendingOffers = new AtomicInteger();
     private static FileHandler fileHandler;
+    private static volatile LogRingBuffer<Entry> asyncBuffer;
+    private static volatile boolean stopWriter;
+    private static Thread writerThread;
 
     // Inizializzazione statica del logger
     static {
@@ -27,43 +49,230 @@ public class LoggerUtility {
         }
     }
 
+    /**
+     * Record in attesa di scrittura nella coda asincrona.
+     *
+     * @param level Livello del record
+     * @param caller Classe e metodo chiamante, o null se il record è stato accodato in modalità asincrona
+     * @param thread Nome del thread che ha prodotto il record, usato se il chiamante non è noto
+     * @param message Il messaggio
+     * @param thrown L'eccezione associata, o null
+     * @param millis Istante del record in millisecondi
+     */
+    private record Entry(Level level, String caller, String thread, String message, Throwable thrown, long millis) {
+    }
+
     /**
      * Ottiene il nome della classe e del metodo che ha chiamato il logger.
      * Utilizza StackWalker per tracciare la chiamata origine del log.
-     * 
+     *
      * @return Una stringa nel formato "ClassName.methodName()"
      */
     private static String getCallerClassName() {
-        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
-                .walk(frames -> frames.skip(2).findFirst().map(frame -> frame.getClassName() + "." + frame.getMethodName() + "()").orElse("Sconosciuto"));
+        return STACK_WALKER
+                .walk(frames -> frames.skip(3).findFirst().map(frame -> frame.getClassName() + "." + frame.getMethodName() + "()").orElse("Sconosciuto"));
     }
 
     /**
      * Registra un messaggio informativo.
-     * 
+     *
      * @param message Il messaggio da registrare
      */
     public static void logInfo(String message) {
-        logger.info("[" + getCallerClassName() + "] \n" + message);
+        if (logger.isLoggable(Level.INFO))
+            log(Level.INFO, message, null);
+    }
+
+    /**
+     * Registra un messaggio informativo costruito solo se il livello è abilitato.
+     *
+     * @param message Il fornitore del messaggio da registrare
+     */
+    public static void logInfo(Supplier<String> message) {
+        if (logger.isLoggable(Level.INFO))
+            log(Level.INFO, message.get(), null);
     }
 
     /**
      * Registra un messaggio di avvertimento.
-     * 
+     *
      * @param message Il messaggio di avvertimento da registrare
      */
     public static void logWarning(String message) {
-        logger.warning("[" + getCallerClassName() + "] \n" + message);
+        if (logger.isLoggable(Level.WARNING))
+            log(Level.WARNING, message, null);
+    }
+
+    /**
+     * Registra un messaggio di avvertimento costruito solo se il livello è abilitato.
+     *
+     * @param message Il fornitore del messaggio di avvertimento da registrare
+     */
+    public static void logWarning(Supplier<String> message) {
+        if (logger.isLoggable(Level.WARNING))
+            log(Level.WARNING, message.get(), null);
     }
 
     /**
      * Registra un messaggio di errore con eccezione associata.
-     * 
+     *
      * @param message Il messaggio di errore da registrare
      * @param e L'eccezione associata all'errore
      */
     public static void logError(String message, Exception e) {
-        logger.log(Level.SEVERE, "[" + getCallerClassName() + "] \n" + message, e);
-        e.printStackTrace();
+        if (logger.isLoggable(Level.SEVERE))
+            log(Level.SEVERE, message, e);
+    }
+
+    /**
+     * Registra un messaggio di errore, costruito solo se il livello è abilitato, con eccezione associata.
+     *
+     * @param message Il fornitore del messaggio di errore da registrare
+     * @param e L'eccezione associata all'errore
+     */
+    public static void logError(Supplier<String> message, Exception e) {
+        if (logger.isLoggable(Level.SEVERE))
+            log(Level.SEVERE, message.get(), e);
+    }
+
+    /**
+     * Attiva la modalità asincrona: i record successivi vengono accodati e scritti da un thread dedicato.
+     * Se la modalità è già attiva non fa nulla.
+     *
+     * @param capacity Numero massimo di record in attesa
+     * @throws IllegalArgumentException Se la capacità non è positiva
+     */
+    public static synchronized void enableAsync(int capacity) {
+        if (asyncBuffer != null)
+            return;
+
+        LogRingBuffer<Entry> buffer = new LogRingBuffer<>(capacity);
+        stopWriter = false;
+        writerThread = new Thread(() -> drain(buffer), "game-logger");
+        writerThread.setDaemon(true);
+        asyncBuffer = buffer;
+        writerThread.start();
+    }
+
+    /**
+     * Disattiva la modalità asincrona, attendendo che i record in coda siano scritti.
+     * I record successivi vengono scritti in modo sincrono.
+     */
+    public static synchronized void disableAsync() {
+        if (asyncBuffer == null)
+            return;
+
+        asyncBuffer = null;
+        // Attende i record che altri thread stanno accodando, così che l'ultimo svuotamento li includa
+        while (pendingOffers.get() != 0)
+            Thread.onSpinWait();
+        stopWriter = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+    }
+
+    /**
+     * Indica se la modalità asincrona è attiva.
+     *
+     * @return true se i record vengono scritti dal thread dedicato
+     */
+    public static boolean isAsync() {
+        return asyncBuffer != null;
+    }
+
+    /**
+     * Restituisce il numero di record scartati perché la coda asincrona era piena.
+     *
+     * @return Record scartati dall'avvio
+     */
+    public static long getDroppedRecords() {
+        return droppedRecords.get();
+    }
+
+    /**
+     * Registra un record in modo sincrono o lo accoda al thread di scrittura.
+     * In modo sincrono il chiamante viene ricavato dallo stack; in modalità asincrona viene
+     * registrato solo il nome del thread, così che il costo sul thread chiamante resti minimo.
+     * Un record prodotto mentre la modalità asincrona viene disattivata viene scritto in modo sincrono.
+     *
+     * @param level Livello del record
+     * @param message Il messaggio
+     * @param thrown L'eccezione associata, o null
+     */
+    private static void log(Level level, String message, Throwable thrown) {
+        LogRingBuffer<Entry> buffer = asyncBuffer;
+        if (buffer != null) {
+            pendingOffers.incrementAndGet();
+            try {
+                if (asyncBuffer == buffer) {
+                    Entry entry = new Entry(level, null, Thread.currentThread().getName(), message, thrown, System.currentTimeMillis());
+                    if (!buffer.offer(entry))
+                        droppedRecords.incrementAndGet();
+                    return;
+                }
+            } finally {
+                pendingOffers.decrementAndGet();
+            }
+        }
+        write(new Entry(level, getCallerClassName(), null, message, thrown, System.currentTimeMillis()));
+    }
+
+    /**
+     * Ciclo del thread di scrittura: scrive i record in coda e attende brevemente quando la coda è vuota.
+     * Termina, dopo aver svuotato la coda, quando la modalità asincrona viene disattivata.
+     *
+     * @param buffer La coda da svuotare
+     */
+    private static void drain(LogRingBuffer<Entry> buffer) {
+        while (true) {
+            Entry entry;
+            while ((entry = buffer.poll()) != null)
+                write(entry);
+
+            if (stopWriter) {
+                while ((entry = buffer.poll()) != null)
+                    write(entry);
+                return;
+            }
+            LockSupport.parkNanos(WRITER_IDLE_NANOS);
+        }
+    }
+
+    /**
+     * Scrive un record sugli handler del logger; gli errori stampano anche lo stack trace.
+     *
+     * @param entry Il record da scrivere
+     */
+    private static void write(Entry entry) {
+        String source = entry.caller() != null ? entry.caller() : "thread " + entry.thread();
+        LogRecord record = new LogRecord(entry.level(), "[" + source + "] \n" + entry.message());
+        record.setLoggerName(logger.getName());
+        record.setSourceClassName(LoggerUtility.class.getName());
+        record.setSourceMethodName(sourceMethod(entry.level()));
+        record.setInstant(Instant.ofEpochMilli(entry.millis()));
+        record.setThrown(entry.thrown());
+        logger.log(record);
+
+        if (entry.thrown() != null)
+            entry.thrown().printStackTrace();
+    }
+
+    /**
+     * Restituisce il nome del metodo pubblico corrispondente al livello, mostrato come sorgente del record.
+     *
+     * @param level Il livello del record
+     * @return Il nome del metodo
+     */
+    private static String sourceMethod(Level level) {
+        if (level == Level.SEVERE)
+            return "logError";
+        if (level == Level.WARNING)
+            return "logWarning";
+        return "logInfo";
     }
 }
@@ -3,51 +3,198 @@ package View;
 import javafx.animation.Animation;
 import javafx.animation.PauseTransition;
 import javafx.util.Duration;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
- * Gestisce una coda di animazioni da eseguire in sequenza.
- * Garantisce che le animazioni non si sovrappongano e vengano eseguite in ordine.
- * 
+ * Gestisce le code delle animazioni del tavolo.
+ * Le animazioni vengono accodate su una corsia, di solito la mano a cui si riferiscono: quelle della stessa
+ * corsia vengono eseguite in ordine, una ogni {@value #STEP_MILLIS} ms, mentre corsie diverse avanzano in parallelo.
+ * Le animazioni accodate senza corsia fanno da barriera: partono quando tutte le precedenti sono terminate
+ * e nessuna animazione successiva parte prima di loro.
+ * <p>
+ * Il ritmo è regolato da un moltiplicatore di velocità globale; in modalità istantanea, o durante uno
+ * {@link #skip()}, ogni animazione viene portata subito al suo stato finale. Va usata dal solo thread JavaFX.
+ *
  * @author JBlackJack Team
  * @version 1.0
  * @since 1.0
  */
 public class AnimationQueue {
-    private static final Queue<Runnable> animationQueue = new LinkedList<>();
-    private static boolean isAnimating = false;
+    /** Intervallo tra l'avvio di due animazioni della stessa corsia, a velocità 1. */
+    public static final double STEP_MILLIS = 650;
+    private static final Object BARRIER = new Object();
+    private static final List<Entry> pending = new ArrayList<>();
+    private static final Map<Object, Slot> busyLanes = new IdentityHashMap<>();
+    private static double speed = 1;
+    private static boolean instant = false;
+    private static boolean skipping = false;
 
     /**
-     * Aggiunge un'animazione alla coda di esecuzione.
-     * L'animazione verrà eseguita quando sarà il suo turno nella coda.
-     * 
+     * Animazione in attesa e corsia su cui è stata accodata.
+     */
+    private record Entry(Object lane, Animation animation) {
+    }
+
+    /**
+     * Animazione in esecuzione su una corsia e pausa che ne libera la corsia.
+     */
+    private record Slot(Animation animation, PauseTransition pause) {
+    }
+
+    /**
+     * Aggiunge un'animazione che fa da barriera: viene eseguita dopo tutte le animazioni
+     * già accodate e prima di quelle accodate in seguito.
+     *
      * @param animation L'animazione JavaFX da aggiungere alla coda
      */
     public static void queue(Animation animation) {
-        animationQueue.add(() -> {
-            animation.play();
-            PauseTransition pause = new PauseTransition(Duration.millis(650));
-            pause.setOnFinished(e -> playNext());
-            pause.play();
-        });
+        queue(BARRIER, animation);
+    }
+
+    /**
+     * Aggiunge un'animazione alla corsia indicata.
+     * L'animazione verrà eseguita dopo quelle già accodate sulla stessa corsia,
+     * in parallelo alle animazioni delle altre corsie.
+     *
+     * @param lane La corsia, ad esempio la vista della mano animata
+     * @param animation L'animazione JavaFX da aggiungere alla coda
+     * @throws IllegalArgumentException Se la corsia è null
+     */
+    public static void queue(Object lane, Animation animation) {
+        if (lane == null)
+            throw new IllegalArgumentException("La corsia non può essere null");
+
+        pending.add(new Entry(lane, animation));
+        schedule();
+    }
+
+    /**
+     * Restituisce il moltiplicatore di velocità delle animazioni.
+     *
+     * @return Il moltiplicatore di velocità
+     */
+    public static double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Imposta il moltiplicatore di velocità delle animazioni: con 2 animazioni e intervalli
+     * durano la metà. Vale per le animazioni avviate da questo momento.
+     *
+     * @param speed Il moltiplicatore di velocità
+     * @throws IllegalArgumentException Se il moltiplicatore non è positivo
+     */
+    public static void setSpeed(double speed) {
+        if (!(speed > 0))
+            throw new IllegalArgumentException("La velocità delle animazioni deve essere positiva");
+        AnimationQueue.speed = speed;
+    }
+
+    /**
+     * Indica se le animazioni vengono portate subito al loro stato finale.
+     *
+     * @return true se la modalità istantanea è attiva
+     */
+    public static boolean isInstant() {
+        return instant;
+    }
 
-        if (!isAnimating)
-            playNext();
+    /**
+     * Attiva o disattiva la modalità istantanea. Attivandola, anche le animazioni
+     * in corso e in attesa vengono completate subito.
+     *
+     * @param instant true per portare ogni animazione subito al suo stato finale
+     */
+    public static void setInstant(boolean instant) {
+        AnimationQueue.instant = instant;
+        if (instant)
+            skip();
     }
 
     /**
-     * Esegue la prossima animazione nella coda.
-     * Se la coda è vuota, imposta il flag di animazione a false.
+     * Completa subito tutte le animazioni in corso e in attesa, portandole al loro stato finale.
+     * Le animazioni accodate in seguito vengono eseguite normalmente.
      */
-    private static void playNext() {
-        if (animationQueue.isEmpty()) {
-            isAnimating = false;
-            return;
+    public static void skip() {
+        skipping = true;
+        for (Slot slot : busyLanes.values()) {
+            slot.pause().stop();
+            finish(slot.animation());
         }
+        busyLanes.clear();
+        schedule();
+        skipping = false;
+    }
+
+    /**
+     * Avvia, nell'ordine di accodamento, le animazioni la cui corsia è libera.
+     * Un'animazione resta in attesa se una precedente della stessa corsia non è ancora partita,
+     * e nessuna animazione parte oltre una barriera in attesa o in esecuzione.
+     */
+    private static void schedule() {
+        boolean restart;
+        do {
+            restart = false;
+            if (busyLanes.containsKey(BARRIER))
+                return;
+
+            Set<Object> blocked = Collections.newSetFromMap(new IdentityHashMap<>());
+            Iterator<Entry> iterator = pending.iterator();
+            while (iterator.hasNext() && !restart) {
+                Entry entry = iterator.next();
+                Object lane = entry.lane();
+                if (lane == BARRIER && (!blocked.isEmpty() || !busyLanes.isEmpty()))
+                    return;
+                if (!blocked.add(lane) || busyLanes.containsKey(lane))
+                    continue;
 
-        isAnimating = true;
-        Runnable nextAnimation = animationQueue.poll();
-        nextAnimation.run();
+                iterator.remove();
+                // Un'animazione completata subito libera la corsia: si ricomincia dalla prima in attesa
+                restart = !start(lane, entry.animation()) || lane == BARRIER;
+            }
+        } while (restart);
+    }
+
+    /**
+     * Avvia un'animazione occupando la sua corsia per l'intervallo di avanzamento.
+     *
+     * @param lane La corsia
+     * @param animation L'animazione
+     * @return true se la corsia resta occupata, false se l'animazione è stata completata subito
+     */
+    private static boolean start(Object lane, Animation animation) {
+        animation.setRate(speed);
+        animation.play();
+        if (instant || skipping) {
+            finish(animation);
+            return false;
+        }
+
+        PauseTransition pause = new PauseTransition(Duration.millis(STEP_MILLIS / speed));
+        pause.setOnFinished(e -> {
+            busyLanes.remove(lane);
+            schedule();
+        });
+        busyLanes.put(lane, new Slot(animation, pause));
+        pause.play();
+        return true;
+    }
+
+    /**
+     * Porta un'animazione in esecuzione al suo stato finale; le azioni di completamento
+     * dell'animazione vengono eseguite al termine dell'impulso corrente.
+     *
+     * @param animation L'animazione da completare
+     */
+    private static void finish(Animation animation) {
+        Duration total = animation.getTotalDuration();
+        if (animation.getStatus() == Animation.Status.RUNNING && !total.isIndefinite())
+            animation.jumpTo(total);
     }
 }
@@ -0,0 +1,115 @@
+package View;
+
+import Controller.AudioManager;
+import Model.Game.Objects.Card;
+import Utility.LoggerUtility;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+/**
+ * Caricatore in background delle risorse del gioco.
+ * Mentre il menu è visibile decodifica in parallelo, su un pool di thread demone, le facce delle carte
+ * (poi composte nell'atlante del {@link CardImageService}), i dorsi, le immagini indicate (ad esempio gli avatar)
+ * e gli effetti sonori dell'{@link AudioManager}, così che il primo round non debba attendere alcuna decodifica.
+ * Le risorse non ancora caricate quando vengono richieste vengono comunque decodificate su richiesta.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class AssetPreloader {
+    private static final LoggerUtility logger = new LoggerUtility();
+    private static CompletableFuture<Void> loading;
+
+    /**
+     * Ascoltatore dell'avanzamento del caricamento, notificato sul thread JavaFX.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Riceve l'avanzamento del caricamento.
+         *
+         * @param completed Risorse caricate finora
+         * @param total Risorse da caricare
+         */
+        void onProgress(int completed, int total);
+    }
+
+    /**
+     * Avvia il caricamento in background. Le chiamate successive restituiscono il caricamento già avviato.
+     *
+     * @param imagePaths Percorsi nel classpath di ulteriori immagini da caricare nell'{@link ImageCache}
+     * @param listener Ascoltatore dell'avanzamento, o null
+     * @return Un future completato quando tutte le risorse sono state caricate
+     */
+    public static synchronized CompletableFuture<Void> start(List<String> imagePaths, ProgressListener listener) {
+        if (loading != null)
+            return loading;
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+            Thread thread = new Thread(task, "asset-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        int total = Card.COUNT + CardImageService.CARD_BACK_DESIGNS.size() + imagePaths.size() + 1;
+        AtomicInteger completed = new AtomicInteger();
+        Runnable progress = () -> {
+            int done = completed.incrementAndGet();
+            if (listener != null)
+                Platform.runLater(() -> listener.onProgress(done, total));
+        };
+
+        // Le immagini richieste, mostrate subito dal menu, vengono caricate per prime
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (String path : imagePaths)
+            tasks.add(load(() -> ImageCache.get(path), progress, executor));
+
+        Image[] faces = new Image[Card.COUNT];
+        List<CompletableFuture<?>> faceTasks = new ArrayList<>();
+        for (int ordinal = 0; ordinal < Card.COUNT; ordinal++) {
+            int index = ordinal;
+            faceTasks.add(CompletableFuture.runAsync(() -> {
+                faces[index] = CardAtlas.decodeFace(Card.ofOrdinal(index));
+                progress.run();
+            }, executor));
+        }
+        tasks.add(CompletableFuture.allOf(faceTasks.toArray(new CompletableFuture[0]))
+                .thenRun(() -> CardImageService.install(CardAtlas.compose(faces))));
+
+        for (String design : CardImageService.CARD_BACK_DESIGNS)
+            tasks.add(load(() -> ImageCache.get("/GameMenu/" + design, CardAtlas.CARD_HEIGHT), progress, executor));
+        tasks.add(load(AudioManager::getInstance, progress, executor));
+
+        loading = CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                .whenComplete((result, error) -> executor.shutdown());
+        return loading;
+    }
+
+    /**
+     * Pianifica il caricamento di una risorsa. Un errore viene segnalato e la risorsa
+     * verrà caricata su richiesta, senza interrompere gli altri caricamenti.
+     *
+     * @param loader Il caricamento da eseguire
+     * @param progress Azione da eseguire al termine per aggiornare l'avanzamento
+     * @param executor L'executor del caricamento
+     * @return Il future del caricamento
+     */
+    private static CompletableFuture<Void> load(Runnable loader, Runnable progress, ExecutorService executor) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                loader.run();
+            } catch (RuntimeException e) {
+                logger.logError("Errore nel caricamento di una risorsa: " + e.getMessage(), e);
+            }
+            progress.run();
+        }, executor);
+    }
+}
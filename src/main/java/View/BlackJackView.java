@@ -97,6 +97,10 @@ public class BlackJackView extends AnchorPane {
         AnchorPane.setTopAnchor(endRoundPanel, 300.0);
         AnchorPane.setRightAnchor(endRoundPanel, 0.0);
 
+        // Un clic sul tavolo completa subito le animazioni in corso
+        dealerView.setOnMouseClicked(e -> AnimationQueue.skip());
+        allHandsArea.setOnMouseClicked(e -> AnimationQueue.skip());
+
         getChildren().addAll(dealerView, allHandsArea, bottomControlsArea, endRoundPanel);
     }
 
@@ -0,0 +1,125 @@
+package View;
+
+import Model.Game.Objects.Card;
+import Model.Game.Objects.Rank;
+import Utility.LoggerUtility;
+import java.io.InputStream;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Atlante delle facce delle carte: un'unica immagine con tutte le 52 carte alla risoluzione di visualizzazione.
+ * Ogni faccia viene decodificata una sola volta già ridotta all'altezza {@link #CARD_HEIGHT} e copiata
+ * nella propria cella (una riga per seme, una colonna per rango); le carte vengono poi mostrate come
+ * viewport dell'immagine condivisa, quindi in memoria video esiste una sola texture e nessuna
+ * carta richiede un ridimensionamento durante il rendering.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class CardAtlas {
+    /** Altezza in pixel con cui le carte vengono mostrate. */
+    static final double CARD_HEIGHT = 75;
+    private static final LoggerUtility logger = new LoggerUtility();
+    private static final int COLUMNS = Rank.values().length;
+
+    private final WritableImage image;
+    private final Rectangle2D[] viewports;
+
+    private CardAtlas(WritableImage image, Rectangle2D[] viewports) {
+        this.image = image;
+        this.viewports = viewports;
+    }
+
+    /**
+     * Decodifica in sequenza le facce delle carte da {@code /GameView/Images/} e le compone nell'atlante.
+     *
+     * @return L'atlante delle carte
+     */
+    static CardAtlas load() {
+        Image[] faces = new Image[Card.COUNT];
+        for (int ordinal = 0; ordinal < Card.COUNT; ordinal++)
+            faces[ordinal] = decodeFace(Card.ofOrdinal(ordinal));
+        return compose(faces);
+    }
+
+    /**
+     * Compone l'atlante dalle facce già decodificate, ad esempio in parallelo dall'{@link AssetPreloader}.
+     * Una faccia mancante lascia la propria cella trasparente.
+     *
+     * @param faces Le facce indicizzate per ordinale della carta, ridotte con {@link #decodeFace(Card)}
+     * @return L'atlante delle carte
+     */
+    static CardAtlas compose(Image[] faces) {
+        int cellWidth = 1;
+        for (Image face : faces)
+            if (face != null)
+                cellWidth = Math.max(cellWidth, (int) Math.ceil(face.getWidth()));
+
+        int cellHeight = (int) CARD_HEIGHT;
+        int rows = (Card.COUNT + COLUMNS - 1) / COLUMNS;
+        WritableImage atlas = new WritableImage(cellWidth * COLUMNS, cellHeight * rows);
+        Rectangle2D[] viewports = new Rectangle2D[Card.COUNT];
+
+        for (int ordinal = 0; ordinal < Card.COUNT; ordinal++) {
+            int x = ordinal % COLUMNS * cellWidth;
+            int y = ordinal / COLUMNS * cellHeight;
+            Image face = faces[ordinal];
+            if (face == null) {
+                viewports[ordinal] = new Rectangle2D(x, y, cellWidth, cellHeight);
+                continue;
+            }
+
+            int width = Math.min(cellWidth, (int) face.getWidth());
+            int height = Math.min(cellHeight, (int) face.getHeight());
+            PixelReader reader = face.getPixelReader();
+            atlas.getPixelWriter().setPixels(x, y, width, height, reader, 0, 0);
+            viewports[ordinal] = new Rectangle2D(x, y, width, height);
+        }
+        return new CardAtlas(atlas, viewports);
+    }
+
+    /**
+     * Decodifica la faccia di una carta già ridotta all'altezza di visualizzazione.
+     *
+     * @param card La carta
+     * @return L'immagine della faccia, o null se non può essere caricata
+     */
+    static Image decodeFace(Card card) {
+        String path = "/GameView/Images/" + card.getImageKey() + ".png";
+        InputStream stream = CardAtlas.class.getResourceAsStream(path);
+        if (stream == null) {
+            logger.logWarning("Impossibile caricare l'immagine: " + path);
+            return null;
+        }
+
+        Image face = new Image(stream, 0, CARD_HEIGHT, true, true);
+        if (face.isError() || face.getPixelReader() == null) {
+            logger.logWarning("Impossibile caricare l'immagine: " + path);
+            return null;
+        }
+        return face;
+    }
+
+    /**
+     * Restituisce l'immagine condivisa dell'atlante.
+     *
+     * @return L'immagine con tutte le carte
+     */
+    Image getImage() {
+        return image;
+    }
+
+    /**
+     * Restituisce la porzione dell'atlante occupata da una carta.
+     *
+     * @param card La carta
+     * @return Il viewport della carta
+     */
+    Rectangle2D getViewport(Card card) {
+        return viewports[card.getOrdinal()];
+    }
+}
@@ -1,81 +1,115 @@
 package View;
 
 import Model.Game.Objects.Card;
+import Utility.LoggerUtility;
+import java.util.List;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Servizio per la gestione delle immagini delle carte da gioco.
  * Carica e fornisce accesso alle immagini delle carte e ai dorsi personalizzabili.
- * Implementa un pattern di cache per ottimizzare le performance.
+ * Le facce delle carte sono raccolte in un {@link CardAtlas}, decodificato una sola volta
+ * alla risoluzione di visualizzazione: ogni carta è un viewport dell'immagine condivisa,
+ * indicizzato dall'ordinale della carta, e tutte le carte condividono la stessa ombreggiatura.
  * 
  * @author JBlackJack Team
  * @version 1.0
  * @since 1.0
  */
 public class CardImageService {
-    private static final Map<String, Image> cardImages = new HashMap<>();
-    private static boolean initialized = false;
+    /** Dorsi delle carte selezionabili, relativi a {@code /GameMenu/}. */
+    public static final List<String> CARD_BACK_DESIGNS = List.of(
+            "Images/cardBack_blue5.png", "Images/cardBack_red5.png", "Images/cardBack_green5.png");
+    private static final LoggerUtility logger = new LoggerUtility();
+    private static final DropShadow CARD_SHADOW = new DropShadow(5, Color.BLACK);
+    private static volatile CardAtlas atlas;
     private static Image cardBackImage;
 
     /**
-     * Inizializza il servizio caricando tutte le immagini delle carte.
-     * Carica le immagini per tutti i 4 semi e 13 ranghi (52 carte totali).
+     * Inizializza il servizio componendo l'atlante delle 52 carte (4 semi e 13 ranghi).
+     * Non fa nulla se l'atlante è già stato composto, ad esempio dall'{@link AssetPreloader}.
      */
     public static void initialize() {
-        if (initialized) return;
+        if (atlas != null) return;
 
-        try {
-            String[] suits = {"hearts", "diamonds", "clubs", "spades"};
-            String[] ranks = {"two", "three", "four", "five", "six", "seven", "eight", "nine", "ten", "jack", "queen", "king", "ace"};
-
-            for (String suit : suits) {
-                for (String rank : ranks) {
-                    String key = rank + "_of_" + suit;
-                    String path = "/GameView/Images/" + key + ".png";
-                    try {
-                        cardImages.put(key, new Image(CardImageService.class.getResourceAsStream(path)));
-                    } catch (Exception e) {
-                        System.err.println("Impossibile caricare l'immagine: " + path);
-                    }
-                }
+        synchronized (CardImageService.class) {
+            if (atlas != null) return;
+            try {
+                atlas = CardAtlas.load();
+            } catch (Exception e) {
+                logger.logError("Errore nell'inizializzazione del CardImageService: " + e.getMessage(), e);
             }
-            initialized = true;
-        } catch (Exception e) {
-            System.err.println("Errore nell'inizializzazione del CardImageService: " + e.getMessage());
-            e.printStackTrace();
         }
     }
 
+    /**
+     * Installa un atlante composto altrove, se il servizio non ne ha già uno.
+     *
+     * @param preloaded L'atlante da installare
+     */
+    static synchronized void install(CardAtlas preloaded) {
+        if (atlas == null)
+            atlas = preloaded;
+    }
+
     /**
      * Imposta l'immagine del dorso della carta in base alla selezione dell'utente.
      * Permette di personalizzare l'aspetto del dorso delle carte.
+     * Il dorso viene decodificato, una sola volta, direttamente all'altezza di visualizzazione.
      *
      * @param backDesign Il percorso al design del dorso selezionato dall'utente
      */
     public static void setCardBackDesign(String backDesign) {
         backDesign = "/GameMenu/" + backDesign;
         try {
-            cardBackImage = new Image(CardImageService.class.getResourceAsStream(backDesign));
+            cardBackImage = ImageCache.get(backDesign, CardAtlas.CARD_HEIGHT);
         } catch (Exception e) {
-            System.err.println("Impossibile caricare l'immagine del dorso della carta: " + backDesign);
+            logger.logError("Impossibile caricare l'immagine del dorso della carta: " + backDesign, e);
         }
     }
 
     /**
-     * Restituisce l'immagine per una carta specifica.
+     * Restituisce l'immagine condivisa che contiene tutte le carte.
+     * La porzione di una carta è indicata da {@link #getCardViewport(Card)}.
      * 
-     * @param card La carta di cui ottenere l'immagine
-     * @return L'immagine della carta, null se non trovata
+     * @return L'immagine dell'atlante delle carte, null se non è stato possibile comporla
+     */
+    public static Image getCardAtlasImage() {
+        initialize();
+        return atlas != null ? atlas.getImage() : null;
+    }
+
+    /**
+     * Restituisce la porzione dell'atlante occupata da una carta.
+     *
+     * @param card La carta
+     * @return Il viewport della carta, null se l'atlante non è disponibile
+     */
+    public static Rectangle2D getCardViewport(Card card) {
+        initialize();
+        return atlas != null ? atlas.getViewport(card) : null;
+    }
+
+    /**
+     * Restituisce l'immagine del dorso della carta scelto dall'utente.
+     *
+     * @return L'immagine del dorso, null se non è stato impostato
+     */
+    static Image getCardBackImage() {
+        return cardBackImage;
+    }
+
+    /**
+     * Restituisce l'ombra condivisa da tutte le carte.
+     *
+     * @return L'effetto ombra delle carte
      */
-    public static Image getCardImage(Card card) {
-        if (!initialized)
-            initialize();
-        return cardImages.get(card.toString().toLowerCase());
+    static DropShadow getCardShadow() {
+        return CARD_SHADOW;
     }
 
     /**
@@ -85,12 +119,8 @@ public class CardImageService {
      * @return Un ImageView configurato per il dorso della carta
      */
     public static ImageView getCardBackImageView() {
-        if (!initialized) initialize();
         ImageView cardBackview = new ImageView(cardBackImage);
-        cardBackview.setFitHeight(75);
-        cardBackview.setPreserveRatio(true);
-        cardBackview.setSmooth(true);
-        cardBackview.setEffect(new DropShadow(5, Color.BLACK));
+        cardBackview.setEffect(CARD_SHADOW);
         return cardBackview;
     }
 
@@ -102,11 +132,9 @@ public class CardImageService {
      * @return Un ImageView configurato per la carta specificata
      */
     public static ImageView createCardImageView(Card card) {
-        ImageView cardView = new ImageView(getCardImage(card));
-        cardView.setFitHeight(75);
-        cardView.setPreserveRatio(true);
-        cardView.setSmooth(true);
-        cardView.setEffect(new DropShadow(5, Color.BLACK));
+        ImageView cardView = new ImageView(getCardAtlasImage());
+        cardView.setViewport(getCardViewport(card));
+        cardView.setEffect(CARD_SHADOW);
         return cardView;
     }
 }
@@ -0,0 +1,88 @@
+package View;
+
+import Model.Game.Objects.Card;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import javafx.scene.Node;
+
+/**
+ * Pool dei nodi che mostrano le carte sul tavolo.
+ * Le carte rimosse a fine round tornano nel pool e vengono riutilizzate nei round successivi,
+ * insieme all'ombra condivisa e alla loro animazione di distribuzione, così che il numero di nodi
+ * creati resti costante durante la sessione. Va usato dal solo thread JavaFX.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class CardNodePool {
+    /** Numero massimo di nodi inutilizzati conservati nel pool. */
+    private static final int MAX_IDLE = 64;
+    private static final Deque<CardView> idle = new ArrayDeque<>();
+
+    private CardNodePool() {
+    }
+
+    /**
+     * Ottiene un nodo che mostra la faccia di una carta.
+     *
+     * @param card La carta da mostrare
+     * @return Il nodo della carta
+     */
+    static CardView acquire(Card card) {
+        CardView cardView = take();
+        cardView.showFace(card);
+        return cardView;
+    }
+
+    /**
+     * Ottiene un nodo che mostra il dorso della carta.
+     *
+     * @return Il nodo della carta coperta
+     */
+    static CardView acquireBack() {
+        CardView cardView = take();
+        cardView.showBack();
+        return cardView;
+    }
+
+    /**
+     * Restituisce al pool i nodi delle carte di una lista e svuota la lista.
+     * I nodi che non sono carte vengono soltanto rimossi.
+     *
+     * @param nodes I nodi da rimuovere, ad esempio i figli del contenitore di una mano
+     */
+    static void releaseAll(List<Node> nodes) {
+        for (Node node : nodes)
+            if (node instanceof CardView cardView)
+                release(cardView);
+        nodes.clear();
+    }
+
+    /**
+     * Restituisce un nodo al pool. Il nodo deve essere già stato rimosso dalla scena
+     * o esserlo subito dopo.
+     *
+     * @param cardView Il nodo da restituire
+     */
+    static void release(CardView cardView) {
+        cardView.recycle();
+        if (idle.size() < MAX_IDLE)
+            idle.push(cardView);
+    }
+
+    /**
+     * Preleva un nodo inutilizzato o ne crea uno nuovo.
+     *
+     * @return Il nodo
+     */
+    private static CardView take() {
+        CardView cardView = idle.poll();
+        if (cardView == null) {
+            cardView = new CardView();
+            cardView.setEffect(CardImageService.getCardShadow());
+        }
+        return cardView;
+    }
+}
@@ -0,0 +1,83 @@
+package View;
+
+import Model.Game.Objects.Card;
+import javafx.animation.Interpolator;
+import javafx.animation.ParallelTransition;
+import javafx.animation.RotateTransition;
+import javafx.animation.ScaleTransition;
+import javafx.animation.TranslateTransition;
+import javafx.scene.image.ImageView;
+import javafx.scene.transform.Rotate;
+import javafx.util.Duration;
+
+/**
+ * Nodo riutilizzabile che mostra una carta, scoperta o coperta.
+ * Viene ottenuto e restituito tramite il {@link CardNodePool}; l'animazione di distribuzione
+ * è creata una sola volta per nodo e riutilizzata a ogni carta mostrata.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class CardView extends ImageView {
+    private ParallelTransition dealAnimation;
+
+    /**
+     * Mostra la faccia di una carta, come porzione dell'atlante condiviso.
+     *
+     * @param card La carta da mostrare
+     */
+    void showFace(Card card) {
+        setImage(CardImageService.getCardAtlasImage());
+        setViewport(CardImageService.getCardViewport(card));
+    }
+
+    /**
+     * Mostra il dorso della carta scelto dall'utente.
+     */
+    void showBack() {
+        setImage(CardImageService.getCardBackImage());
+        setViewport(null);
+    }
+
+    /**
+     * Restituisce l'animazione di movimento, scala e rotazione con cui la carta raggiunge
+     * la propria posizione nella mano partendo dalla traslazione e dalla scala correnti.
+     *
+     * @return L'animazione di distribuzione del nodo
+     */
+    ParallelTransition getDealAnimation() {
+        if (dealAnimation == null) {
+            TranslateTransition moveTransition = new TranslateTransition(Duration.millis(600), this);
+            moveTransition.setToX(0);
+            moveTransition.setToY(0);
+
+            ScaleTransition scaleTransition = new ScaleTransition(Duration.millis(600), this);
+            scaleTransition.setToX(1.0);
+            scaleTransition.setToY(1.0);
+
+            RotateTransition wobbleTransition = new RotateTransition(Duration.millis(600), this);
+            wobbleTransition.setFromAngle(-5);
+            wobbleTransition.setToAngle(0);
+            wobbleTransition.setInterpolator(Interpolator.SPLINE(0.4, 0, 0.2, 1));
+
+            dealAnimation = new ParallelTransition(moveTransition, scaleTransition, wobbleTransition);
+            dealAnimation.setInterpolator(Interpolator.EASE_OUT);
+        }
+        return dealAnimation;
+    }
+
+    /**
+     * Interrompe l'animazione in corso e riporta il nodo allo stato iniziale.
+     */
+    void recycle() {
+        if (dealAnimation != null)
+            dealAnimation.stop();
+        setTranslateX(0);
+        setTranslateY(0);
+        setScaleX(1);
+        setScaleY(1);
+        setRotate(0);
+        setRotationAxis(Rotate.Z_AXIS);
+    }
+}
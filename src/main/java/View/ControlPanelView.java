@@ -9,17 +9,21 @@ import javafx.scene.layout.Priority;
 
 /**
  * Pannello di controllo per le azioni del giocatore nel BlackJack.
- * Contiene i pulsanti per Hit, Stand, Double Down e Split.
+ * Contiene i pulsanti per Hit, Stand, Double Down e Split e il selettore della velocità delle animazioni.
  * 
  * @author JBlackJack Team
  * @version 1.0
  * @since 1.0
  */
 public class ControlPanelView extends HBox {
+    /** Velocità selezionabili per le animazioni; dopo l'ultima il selettore passa alla modalità istantanea. */
+    private static final double[] ANIMATION_SPEEDS = {1, 2, 4};
     private final Button hitButton;
     private final Button standButton;
     private final Button doubleDownButton;
     private final Button splitButton;
+    private final Button speedButton;
+    private int speedIndex;
     private BlackjackActionListener actionListener;
 
     /**
@@ -36,6 +40,10 @@ public class ControlPanelView extends HBox {
         standButton = createButton("STAND", "stand-button");
         doubleDownButton = createButton("D. DOWN", "double-button");
         splitButton = createButton("SPLIT", "split-button");
+        speedButton = createButton("", "speed-button");
+        speedButton.setPrefSize(120, 50);
+        speedIndex = currentSpeedIndex();
+        applyAnimationSpeed();
 
         hitButton.setDisable(true);
         standButton.setDisable(true);
@@ -44,7 +52,7 @@ public class ControlPanelView extends HBox {
 
         setupButtonListeners();
 
-        getChildren().addAll(hitButton, standButton, doubleDownButton, splitButton);
+        getChildren().addAll(hitButton, standButton, doubleDownButton, splitButton, speedButton);
         setHgrow(hitButton, Priority.ALWAYS);
         setHgrow(standButton, Priority.ALWAYS);
         setHgrow(doubleDownButton, Priority.ALWAYS);
@@ -93,6 +101,41 @@ public class ControlPanelView extends HBox {
                 actionListener.onSplitButtonPressed();
             }
         });
+
+        speedButton.setOnAction(e -> {
+            speedIndex = (speedIndex + 1) % (ANIMATION_SPEEDS.length + 1);
+            applyAnimationSpeed();
+        });
+    }
+
+    /**
+     * Restituisce la posizione del selettore corrispondente alle impostazioni correnti
+     * dell'{@link AnimationQueue}, così che la scelta dell'utente resti valida tra una partita e l'altra.
+     *
+     * @return La posizione del selettore, {@code ANIMATION_SPEEDS.length} per la modalità istantanea
+     */
+    private static int currentSpeedIndex() {
+        if (AnimationQueue.isInstant())
+            return ANIMATION_SPEEDS.length;
+        for (int i = 0; i < ANIMATION_SPEEDS.length; i++)
+            if (ANIMATION_SPEEDS[i] == AnimationQueue.getSpeed())
+                return i;
+        return 0;
+    }
+
+    /**
+     * Applica all'{@link AnimationQueue} la velocità selezionata e aggiorna il testo del selettore.
+     * L'ultima posizione del selettore attiva la modalità istantanea.
+     */
+    private void applyAnimationSpeed() {
+        boolean instant = speedIndex == ANIMATION_SPEEDS.length;
+        if (!instant) {
+            AnimationQueue.setSpeed(ANIMATION_SPEEDS[speedIndex]);
+            speedButton.setText("SPEED " + (int) ANIMATION_SPEEDS[speedIndex] + "x");
+        } else {
+            speedButton.setText("INSTANT");
+        }
+        AnimationQueue.setInstant(instant);
     }
 
     /**
@@ -42,7 +42,9 @@ public class DealerView extends VBox {
 
     /**
      * Rivela la carta nascosta del dealer con un'animazione di rotazione.
-     * Sostituisce la carta coperta con la carta reale e aggiorna il valore della mano.
+     * Il nodo della carta coperta viene girato e mostra la carta reale; aggiorna il valore della mano.
+     * La rivelazione fa da barriera nell'{@link AnimationQueue}: attende che le carte dei giocatori
+     * siano state distribuite, e le carte successive del dealer attendono la rivelazione.
      * 
      * @param hiddenCard La carta nascosta da rivelare
      * @param handValue Il nuovo valore totale della mano del dealer
@@ -53,7 +55,6 @@ public class DealerView extends VBox {
 
         if (handContainer.getChildren().size() > 1) {
             ImageView cardView = (ImageView) handContainer.getChildren().get(0);
-            ImageView newCardView = CardImageService.createCardImageView(hiddenCard);
 
             RotateTransition rotateOut = new RotateTransition(Duration.millis(1000), cardView);
             rotateOut.setAxis(Rotate.Y_AXIS);
@@ -61,8 +62,9 @@ public class DealerView extends VBox {
             rotateOut.setToAngle(90);
 
             rotateOut.setOnFinished(e -> {
-                handContainer.getChildren().set(0, newCardView);
-                RotateTransition rotateIn = new RotateTransition(Duration.millis(150), newCardView);
+                cardView.setImage(CardImageService.getCardAtlasImage());
+                cardView.setViewport(CardImageService.getCardViewport(hiddenCard));
+                RotateTransition rotateIn = new RotateTransition(Duration.millis(150), cardView);
                 rotateIn.setAxis(Rotate.Y_AXIS);
                 rotateIn.setFromAngle(-90);
                 rotateIn.setToAngle(0);
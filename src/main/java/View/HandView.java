@@ -5,7 +5,6 @@ import javafx.animation.*;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.util.Duration;
@@ -79,17 +78,18 @@ public class HandView extends VBox {
      * Anima l'aggiunta di una nuova carta alla mano.
      * La carta appare con un'animazione di movimento, scala e rotazione
      * dal mazzo del dealer alla posizione finale nella mano.
+     * Il nodo della carta e la sua animazione vengono presi dal {@link CardNodePool}.
      * 
      * @param card La carta da aggiungere
      * @param handValue Il nuovo valore totale della mano
      * @param isHiddenCard true se la carta deve essere mostrata coperta
      */
     public void animateCardDealt(Card card, int handValue, boolean isHiddenCard) {
-        ImageView cardView;
+        CardView cardView;
         if (isHiddenCard)
-            cardView = CardImageService.getCardBackImageView();
+            cardView = CardNodePool.acquireBack();
         else
-            cardView = CardImageService.createCardImageView(card);
+            cardView = CardNodePool.acquire(card);
 
         double dealerX = 15;
         double dealerY = 400;
@@ -105,26 +105,9 @@ public class HandView extends VBox {
 
         handContainer.getChildren().add(cardView);
 
-        TranslateTransition moveTransition = new TranslateTransition(Duration.millis(600), cardView);
-        moveTransition.setToX(0);
-        moveTransition.setToY(0);
-
-        ScaleTransition scaleTransition = new ScaleTransition(Duration.millis(600), cardView);
-        scaleTransition.setToX(1.0);
-        scaleTransition.setToY(1.0);
-
-        RotateTransition wobbleTransition = new RotateTransition(Duration.millis(600), cardView);
-        wobbleTransition.setFromAngle(-5);
-        wobbleTransition.setToAngle(0);
-        wobbleTransition.setInterpolator(Interpolator.SPLINE(0.4, 0, 0.2, 1));
-
-        ParallelTransition dealAnimation = new ParallelTransition(moveTransition, scaleTransition, wobbleTransition);
-
         valueLabel.setText("value: " + handValue);
 
-        dealAnimation.setInterpolator(Interpolator.EASE_OUT);
-
-        AnimationQueue.queue(dealAnimation);
+        AnimationQueue.queue(this, cardView.getDealAnimation());
     }
 
     /**
@@ -192,15 +175,15 @@ public class HandView extends VBox {
         scaleUp.setToY(1.2);
 
         ParallelTransition animation = new ParallelTransition(fadeIn, scaleUp);
-        AnimationQueue.queue(animation);
+        AnimationQueue.queue(this, animation);
     }
 
     /**
      * Resetta completamente la vista della mano per un nuovo round.
-     * Rimuove tutte le carte e ripristina le etichette ai valori predefiniti.
+     * Restituisce tutte le carte al {@link CardNodePool} e ripristina le etichette ai valori predefiniti.
      */
     public void reset() {
-        handContainer.getChildren().clear();
+        CardNodePool.releaseAll(handContainer.getChildren());
         getChildren().remove(resultLabel);
         valueLabel.setText("value: ");
         betLabel.setText("Bet: ");
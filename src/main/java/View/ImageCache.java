@@ -0,0 +1,71 @@
+package View;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import javafx.scene.image.Image;
+
+/**
+ * Cache delle immagini lette dal classpath (avatar, dorsi delle carte).
+ * Ogni immagine viene decodificata una sola volta, anche se richiesta da più thread:
+ * l'{@link AssetPreloader} la decodifica in background e l'interfaccia la ritrova già pronta.
+ *
+ * @author JBlackJack Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class ImageCache {
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+
+    /**
+     * Restituisce l'immagine alla sua dimensione originale, decodificandola se necessario.
+     *
+     * @param path Il percorso dell'immagine nel classpath
+     * @return L'immagine
+     * @throws IllegalArgumentException Se l'immagine non esiste
+     */
+    public static Image get(String path) {
+        return get(path, 0);
+    }
+
+    /**
+     * Restituisce l'immagine alla sua dimensione originale senza bloccare il chiamante:
+     * se non è ancora in cache viene decodificata in background.
+     *
+     * @param path Il percorso dell'immagine nel classpath
+     * @return Un future completato con l'immagine, o eccezionalmente se l'immagine non esiste
+     */
+    public static CompletableFuture<Image> getAsync(String path) {
+        Image cached = images.get(path);
+        if (cached != null)
+            return CompletableFuture.completedFuture(cached);
+        return CompletableFuture.supplyAsync(() -> get(path));
+    }
+
+    /**
+     * Restituisce l'immagine decodificata direttamente all'altezza indicata, mantenendo le proporzioni.
+     *
+     * @param path Il percorso dell'immagine nel classpath
+     * @param height L'altezza richiesta in pixel, 0 per la dimensione originale
+     * @return L'immagine
+     * @throws IllegalArgumentException Se l'immagine non esiste
+     */
+    public static Image get(String path, double height) {
+        return images.computeIfAbsent(height > 0 ? path + "@" + height : path, key -> decode(path, height));
+    }
+
+    /**
+     * Decodifica un'immagine dal classpath.
+     *
+     * @param path Il percorso dell'immagine
+     * @param height L'altezza richiesta, 0 per la dimensione originale
+     * @return L'immagine decodificata
+     */
+    private static Image decode(String path, double height) {
+        InputStream stream = ImageCache.class.getResourceAsStream(path);
+        if (stream == null)
+            throw new IllegalArgumentException("Immagine non trovata: " + path);
+        return new Image(stream, 0, height, true, true);
+    }
+}
@@ -26,6 +26,7 @@ import java.util.List;
 public class PlayerHandsView extends VBox {
     private final Label nameLabel;
     private final List<HandView> handViews;
+    private final List<HandView> spareHandViews;
 
     /**
      * Costruisce la vista delle mani per un giocatore.
@@ -45,6 +46,7 @@ public class PlayerHandsView extends VBox {
         nameLabel.setAlignment(Pos.CENTER);
 
         handViews = new ArrayList<>();
+        spareHandViews = new ArrayList<>();
         HandView initialHand = new HandView();
         handViews.add(initialHand);
 
@@ -162,13 +164,13 @@ public class PlayerHandsView extends VBox {
 
     /**
      * Assicura che ci siano abbastanza HandView disponibili per il numero richiesto.
-     * Crea nuove HandView se necessario.
+     * Riutilizza le HandView rimosse nei round precedenti e ne crea di nuove solo se necessario.
      * 
      * @param requiredCount Il numero minimo di HandView richieste
      */
     private void ensureHandViews(int requiredCount) {
         while (handViews.size() < requiredCount) {
-            HandView newHand = new HandView();
+            HandView newHand = spareHandViews.isEmpty() ? new HandView() : spareHandViews.remove(spareHandViews.size() - 1);
             handViews.add(newHand);
             getChildren().add(newHand);
         }
@@ -176,12 +178,15 @@ public class PlayerHandsView extends VBox {
 
     /**
      * Rimuove tutte le mani aggiuntive create durante uno split
-     * e mantiene solo la mano principale.
+     * e mantiene solo la mano principale. Le carte tornano al {@link CardNodePool}
+     * e le mani rimosse vengono conservate per gli split successivi.
      */
     private void removeAdditionalHands() {
         for (int i = handViews.size() - 1; i > 0; i--) {
             HandView handView = handViews.remove(i);
             getChildren().remove(handView);
+            handView.reset();
+            spareHandViews.add(handView);
         }
     }
 
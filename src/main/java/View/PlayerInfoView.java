@@ -2,7 +2,6 @@ package View;
 
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 import javafx.scene.shape.Circle;
@@ -42,7 +41,7 @@ public class PlayerInfoView extends VBox {
         nameLabel.getStyleClass().add("player-name");
 
         // Immagine profilo
-        profileImageView = new ImageView(new Image(getClass().getResourceAsStream(imagePath)));
+        profileImageView = new ImageView(ImageCache.get(imagePath));
         profileImageView.setFitWidth(86);
         profileImageView.setFitHeight(86);
         profileImageView.setPreserveRatio(true);
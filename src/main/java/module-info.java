@@ -37,9 +37,11 @@ module com.example.jblackjack {
 
     exports Model.Game;
     exports Model.Game.Objects;
+    exports Model.History;
     exports Model.Players;
     exports Model.Players.StrategyPlay;
     exports Model.Profile;
+    exports Model.Simulation;
 
     exports View;
 